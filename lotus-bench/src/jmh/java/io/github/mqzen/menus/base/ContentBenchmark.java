@@ -0,0 +1,88 @@
+package io.github.mqzen.menus.base;
+
+import io.github.mqzen.menus.misc.Capacity;
+import io.github.mqzen.menus.misc.button.Button;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+
+/**
+ * Filling and scanning a 6-rows content, comparing the default array-backed content
+ * against the map-backed {@link MenuContentImpl}.
+ * <p>
+ * It lives in the package of the contents so it can construct both implementations directly.
+ * </p>
+ */
+@State(Scope.Thread)
+public class ContentBenchmark {
+
+	@Param({"array", "map"})
+	public String implementation;
+
+	private final Capacity capacity = Capacity.ofRows(6);
+	private final Button button = Button.empty(new ItemStack(Material.STONE));
+	private final Button[] pattern = {
+		Button.empty(new ItemStack(Material.GLASS)),
+		Button.empty(new ItemStack(Material.STONE))
+	};
+
+	private Content halfFilled;
+	private Button[] fullPage;
+
+	@Setup
+	public void setup() {
+		fullPage = new Button[capacity.getTotalSize()];
+		Arrays.fill(fullPage, button);
+
+		halfFilled = newContent();
+		for (int slot = 0; slot < capacity.getTotalSize() / 2; slot++) {
+			halfFilled.setButton(slot, button);
+		}
+	}
+
+	private Content newContent() {
+		return "map".equals(implementation) ? new MenuContentImpl(capacity) : new ArrayMenuContent(capacity);
+	}
+
+	@Benchmark
+	public Content fill() {
+		Content content = newContent();
+		content.fill(button);
+		return content;
+	}
+
+	@Benchmark
+	public Content fillBorder() {
+		Content content = newContent();
+		content.fillBorder(button);
+		return content;
+	}
+
+	@Benchmark
+	public Content fillRowRepeatedly() {
+		Content content = newContent();
+		for (int row = 0; row < capacity.getRows(); row++) {
+			content.fillRowRepeatedly(row, pattern);
+		}
+		return content;
+	}
+
+	@Benchmark
+	public Content addButtons() {
+		Content content = newContent();
+		content.addButton(fullPage);
+		return content;
+	}
+
+	@Benchmark
+	public int nextEmptySlot() {
+		return halfFilled.nextEmptySlot(0);
+	}
+
+}
@@ -0,0 +1,139 @@
+package io.github.mqzen.menus.bench;
+
+import io.github.mqzen.menus.base.Content;
+import io.github.mqzen.menus.base.Menu;
+import io.github.mqzen.menus.base.pagination.FillRange;
+import io.github.mqzen.menus.base.pagination.Page;
+import io.github.mqzen.menus.base.pagination.PageComponent;
+import io.github.mqzen.menus.base.pagination.PageView;
+import io.github.mqzen.menus.misc.Capacity;
+import io.github.mqzen.menus.misc.DataRegistry;
+import io.github.mqzen.menus.misc.Slot;
+import io.github.mqzen.menus.misc.button.Button;
+import io.github.mqzen.menus.misc.button.actions.ButtonClickAction;
+import io.github.mqzen.menus.titles.MenuTitle;
+import io.github.mqzen.menus.titles.MenuTitles;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The menus, pages and components shared by the benchmarks
+ */
+public final class BenchMenus {
+
+	private static final ItemStack COMPONENT_ITEM = new ItemStack(Material.PAPER);
+
+	private BenchMenus() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * A static 6-rows menu, its slot 13 holds a button cancelling the click
+	 */
+	public static final class ClickMenu implements Menu {
+
+		public static final int CLICKED_SLOT = 13;
+
+		@Override
+		public String getName() {
+			return "bench_click";
+		}
+
+		@Override
+		public @NotNull MenuTitle getTitle(DataRegistry extraData, Player opener) {
+			return MenuTitles.createLegacy("Bench");
+		}
+
+		@Override
+		public @NotNull Capacity getCapacity(DataRegistry extraData, Player opener) {
+			return Capacity.ofRows(6);
+		}
+
+		@Override
+		public @NotNull Content getContent(DataRegistry extraData, Player opener, Capacity capacity) {
+			return Content.builder(capacity)
+				.apply(content -> content.fillBorder(Button.empty(new ItemStack(Material.GLASS))))
+				.setButton(CLICKED_SLOT, new ItemStack(Material.DIAMOND),
+					ButtonClickAction.plain((menu, event) -> event.setCancelled(true)))
+				.build();
+		}
+
+		@Override
+		public boolean isFullyStatic() {
+			return true;
+		}
+	}
+
+	/**
+	 * A 6-rows page, the first 5 rows are filled with components
+	 */
+	public static final class BenchPage extends Page {
+
+		@Override
+		public FillRange getFillRange(Capacity capacity, Player opener) {
+			return FillRange.start(capacity).end(Slot.of(44));
+		}
+
+		@Override
+		public ItemStack nextPageItem(Player player) {
+			return new ItemStack(Material.ARROW);
+		}
+
+		@Override
+		public ItemStack previousPageItem(Player player) {
+			return new ItemStack(Material.ARROW);
+		}
+
+		@Override
+		public String getName() {
+			return "bench_page";
+		}
+
+		@Override
+		public @NotNull MenuTitle getTitle(DataRegistry extraData, Player opener) {
+			return MenuTitles.createLegacy("Bench Page");
+		}
+
+		@Override
+		public @NotNull Capacity getCapacity(DataRegistry extraData, Player opener) {
+			return Capacity.ofRows(6);
+		}
+
+		@Override
+		public @NotNull Content getContent(DataRegistry extraData, Player opener, Capacity capacity) {
+			return Content.empty(capacity);
+		}
+	}
+
+	/**
+	 * @param count the number of components
+	 * @return components sharing the same item
+	 */
+	public static List<PageComponent> components(int count) {
+		List<PageComponent> components = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			components.add(new BenchComponent());
+		}
+		return components;
+	}
+
+	private static final class BenchComponent implements PageComponent {
+
+		@Override
+		public ItemStack toItem() {
+			return COMPONENT_ITEM;
+		}
+
+		@Override
+		public void onClick(PageView pageView, InventoryClickEvent event) {
+			event.setCancelled(true);
+		}
+	}
+
+}
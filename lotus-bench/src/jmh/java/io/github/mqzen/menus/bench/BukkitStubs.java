@@ -0,0 +1,323 @@
+package io.github.mqzen.menus.bench;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+/**
+ * In-memory stand-ins for the parts of the Bukkit API that Lotus touches,
+ * so the benchmarks run without a server.
+ * <p>
+ * Every stand-in is a dynamic proxy, methods without an explicit behaviour
+ * return a default value (0, false, "", or another stand-in for interface types),
+ * so scheduling tasks is a no-op. Registered listeners are only recorded (see {@link #listeners()}),
+ * events are dispatched to them by the benchmarks themselves.
+ * </p>
+ */
+public final class BukkitStubs {
+
+	private static final Logger LOGGER = Logger.getLogger("LotusBench");
+	private static final Object[] NO_ARGS = new Object[0];
+	private static final List<Listener> LISTENERS = new CopyOnWriteArrayList<>();
+	private static Plugin plugin;
+
+	private BukkitStubs() {
+		throw new UnsupportedOperationException();
+	}
+
+	@FunctionalInterface
+	public interface Behaviour {
+		Object invoke(Object proxy, Object[] args) throws Throwable;
+	}
+
+	/**
+	 * Installs the stand-in server (once per JVM) and returns the stand-in plugin
+	 *
+	 * @return the plugin to load Lotus with
+	 */
+	public static synchronized Plugin install() {
+		if (plugin != null) return plugin;
+
+		Map<String, Behaviour> itemFactory = new HashMap<>();
+		itemFactory.put("getItemMeta", (proxy, args) -> itemMeta(new MetaState()));
+		itemFactory.put("isApplicable", (proxy, args) -> true);
+		itemFactory.put("asMetaFor", (proxy, args) -> args[0]);
+		itemFactory.put("equals", (proxy, args) -> args.length == 2 ? Objects.equals(args[0], args[1]) : proxy == args[0]);
+		ItemFactory factory = stub(ItemFactory.class, itemFactory);
+
+		Map<String, Behaviour> pluginManager = new HashMap<>();
+		pluginManager.put("registerEvents", (proxy, args) -> {
+			LISTENERS.add((Listener) args[0]);
+			return null;
+		});
+		PluginManager manager = stub(PluginManager.class, pluginManager);
+
+		Map<String, Behaviour> server = new HashMap<>();
+		server.put("getLogger", (proxy, args) -> LOGGER);
+		server.put("getPluginManager", (proxy, args) -> manager);
+		server.put("getName", (proxy, args) -> "LotusBench");
+		server.put("getItemFactory", (proxy, args) -> factory);
+		server.put("createInventory", (proxy, args) -> createInventory(args));
+		Bukkit.setServer(stub(Server.class, server));
+
+		Map<String, Behaviour> pluginBehaviours = new HashMap<>();
+		pluginBehaviours.put("getLogger", (proxy, args) -> LOGGER);
+		pluginBehaviours.put("getName", (proxy, args) -> "LotusBench");
+		pluginBehaviours.put("isEnabled", (proxy, args) -> true);
+		plugin = stub(Plugin.class, pluginBehaviours);
+		return plugin;
+	}
+
+	/**
+	 * @return the listeners registered so far, in the order of their registration
+	 */
+	public static List<Listener> listeners() {
+		return Collections.unmodifiableList(LISTENERS);
+	}
+
+	/**
+	 * @param name the name of the player
+	 * @return a player that opens inventories into a {@link BenchInventoryView}
+	 */
+	public static Player player(String name) {
+		UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+		InventoryView[] openView = new InventoryView[1];
+
+		Map<String, Behaviour> behaviours = new HashMap<>();
+		behaviours.put("getUniqueId", (proxy, args) -> uuid);
+		behaviours.put("getName", (proxy, args) -> name);
+		behaviours.put("openInventory", (proxy, args) -> {
+			if (!(args[0] instanceof Inventory)) return null;
+			openView[0] = new BenchInventoryView((Inventory) args[0], (Player) proxy);
+			return openView[0];
+		});
+		behaviours.put("getOpenInventory", (proxy, args) -> openView[0]);
+		behaviours.put("closeInventory", (proxy, args) -> {
+			openView[0] = null;
+			return null;
+		});
+		return stub(Player.class, behaviours);
+	}
+
+	/**
+	 * @param holder the holder of the inventory
+	 * @param size the size of the inventory
+	 * @param title the title of the inventory
+	 * @return an inventory storing its items in a plain array
+	 */
+	public static Inventory inventory(InventoryHolder holder, int size, String title) {
+		ItemStack[] items = new ItemStack[size];
+
+		Map<String, Behaviour> behaviours = new HashMap<>();
+		behaviours.put("getSize", (proxy, args) -> items.length);
+		behaviours.put("getName", (proxy, args) -> title);
+		behaviours.put("getTitle", (proxy, args) -> title);
+		behaviours.put("getHolder", (proxy, args) -> holder);
+		behaviours.put("getType", (proxy, args) -> InventoryType.CHEST);
+		behaviours.put("getItem", (proxy, args) -> items[(Integer) args[0]]);
+		behaviours.put("setItem", (proxy, args) -> {
+			items[(Integer) args[0]] = (ItemStack) args[1];
+			return null;
+		});
+		behaviours.put("getContents", (proxy, args) -> items.clone());
+		behaviours.put("setContents", (proxy, args) -> {
+			ItemStack[] contents = (ItemStack[]) args[0];
+			Arrays.fill(items, null);
+			System.arraycopy(contents, 0, items, 0, Math.min(contents.length, items.length));
+			return null;
+		});
+		behaviours.put("clear", (proxy, args) -> {
+			if (args == null || args.length == 0) Arrays.fill(items, null);
+			else items[(Integer) args[0]] = null;
+			return null;
+		});
+		return stub(Inventory.class, behaviours);
+	}
+
+	/**
+	 * @param state the state of the meta
+	 * @return an item meta storing its display name, lore, flags and enchantments in the state,
+	 * its clones copy the state, and it's equal to the metas having an equal state.
+	 */
+	private static ItemMeta itemMeta(MetaState state) {
+		Map<String, Behaviour> behaviours = new HashMap<>();
+		behaviours.put("getDisplayName", (proxy, args) -> state.displayName);
+		behaviours.put("hasDisplayName", (proxy, args) -> state.displayName != null);
+		behaviours.put("setDisplayName", (proxy, args) -> {
+			state.displayName = (String) args[0];
+			return null;
+		});
+		behaviours.put("getLore", (proxy, args) -> state.lore == null ? null : new ArrayList<>(state.lore));
+		behaviours.put("hasLore", (proxy, args) -> state.lore != null);
+		behaviours.put("setLore", (proxy, args) -> {
+			state.lore = args[0] == null ? null : new ArrayList<>((List<?>) args[0]);
+			return null;
+		});
+		behaviours.put("addItemFlags", (proxy, args) -> {
+			state.flags.addAll(Arrays.asList((ItemFlag[]) args[0]));
+			return null;
+		});
+		behaviours.put("addEnchant", (proxy, args) -> state.enchants.put((Enchantment) args[0], (Integer) args[1]) == null);
+		behaviours.put("removeEnchant", (proxy, args) -> state.enchants.remove((Enchantment) args[0]) != null);
+		behaviours.put("getItemFlags", (proxy, args) -> EnumSet.copyOf(state.flags));
+		behaviours.put("getEnchants", (proxy, args) -> new HashMap<>(state.enchants));
+		behaviours.put("clone", (proxy, args) -> itemMeta(state.copy()));
+		behaviours.put("equals", (proxy, args) -> args[0] == proxy
+			|| (args[0] instanceof ItemMeta && state.equals(MetaState.of((ItemMeta) args[0]))));
+		behaviours.put("hashCode", (proxy, args) -> state.hashCode());
+		return stub(ItemMeta.class, behaviours);
+	}
+
+	private static final class MetaState {
+
+		private String displayName;
+		private List<Object> lore;
+		private final Set<ItemFlag> flags = EnumSet.noneOf(ItemFlag.class);
+		private final Map<Enchantment, Integer> enchants = new HashMap<>();
+
+		private static MetaState of(ItemMeta meta) {
+			MetaState state = new MetaState();
+			state.displayName = meta.getDisplayName();
+			state.lore = meta.getLore() == null ? null : new ArrayList<>(meta.getLore());
+			state.flags.addAll(meta.getItemFlags());
+			state.enchants.putAll(meta.getEnchants());
+			return state;
+		}
+
+		private MetaState copy() {
+			MetaState copy = new MetaState();
+			copy.displayName = displayName;
+			copy.lore = lore == null ? null : new ArrayList<>(lore);
+			copy.flags.addAll(flags);
+			copy.enchants.putAll(enchants);
+			return copy;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof MetaState)) return false;
+			MetaState other = (MetaState) obj;
+			return Objects.equals(displayName, other.displayName) && Objects.equals(lore, other.lore)
+				&& flags.equals(other.flags) && enchants.equals(other.enchants);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(displayName, lore, flags, enchants);
+		}
+	}
+
+	private static Inventory createInventory(Object[] args) {
+		InventoryHolder holder = (InventoryHolder) args[0];
+		if (args[1] instanceof InventoryType) {
+			InventoryType type = (InventoryType) args[1];
+			return inventory(holder, type.getDefaultSize(), args.length > 2 ? (String) args[2] : type.getDefaultTitle());
+		}
+		return inventory(holder, (Integer) args[1], args.length > 2 ? (String) args[2] : "Chest");
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> T stub(Class<T> type, Map<String, Behaviour> behaviours) {
+		//boxed once, as stand-ins such as inventories are hashed on every click
+		Integer[] hashCode = new Integer[1];
+		return (T) Proxy.newProxyInstance(BukkitStubs.class.getClassLoader(), new Class<?>[]{type},
+			(proxy, method, args) -> {
+				Behaviour behaviour = behaviours.get(method.getName());
+				Object[] arguments = args == null ? NO_ARGS : args;
+				if (behaviour != null) return behaviour.invoke(proxy, arguments);
+
+				switch (method.getName()) {
+					case "equals":
+						return proxy == arguments[0];
+					case "hashCode":
+						if (hashCode[0] == null) hashCode[0] = System.identityHashCode(proxy);
+						return hashCode[0];
+					case "toString":
+						return type.getSimpleName() + "Stub";
+					default:
+						return defaultValue(method);
+				}
+			});
+	}
+
+	private static Object defaultValue(Method method) {
+		Class<?> returnType = method.getReturnType();
+		if (returnType == void.class) return null;
+		if (returnType == boolean.class) return false;
+		if (returnType == int.class) return 0;
+		if (returnType == long.class) return 0L;
+		if (returnType == double.class) return 0D;
+		if (returnType == float.class) return 0F;
+		if (returnType == short.class) return (short) 0;
+		if (returnType == byte.class) return (byte) 0;
+		if (returnType == char.class) return (char) 0;
+		if (returnType == String.class) return "";
+		if (returnType.isInterface()) return stub(returnType, new HashMap<>());
+		return null;
+	}
+
+	/**
+	 * The view of an inventory opened by a stand-in player
+	 */
+	public static final class BenchInventoryView extends InventoryView {
+
+		private final Inventory top;
+		private final Inventory bottom;
+		private final Player player;
+
+		BenchInventoryView(Inventory top, Player player) {
+			this.top = top;
+			this.bottom = inventory(player, 36, "Inventory");
+			this.player = player;
+		}
+
+		@Override
+		public Inventory getTopInventory() {
+			return top;
+		}
+
+		@Override
+		public Inventory getBottomInventory() {
+			return bottom;
+		}
+
+		@Override
+		public HumanEntity getPlayer() {
+			return player;
+		}
+
+		@Override
+		public InventoryType getType() {
+			return InventoryType.CHEST;
+		}
+	}
+
+}
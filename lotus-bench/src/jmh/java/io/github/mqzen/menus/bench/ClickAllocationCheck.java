@@ -0,0 +1,61 @@
+package io.github.mqzen.menus.bench;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Checks that dispatching a click on an open view, from the listener of Lotus to the button,
+ * allocates nothing once warmed up,
+ * it exits with a non-zero status if it does, so it can gate a build.
+ * <p>
+ * It relies on the HotSpot {@code com.sun.management.ThreadMXBean} to count
+ * the bytes allocated by the current thread.
+ * </p>
+ */
+public final class ClickAllocationCheck {
+
+	private static final int WARMUP_CLICKS = 200_000;
+	private static final int MEASURED_CLICKS = 1_000_000;
+
+	private ClickAllocationCheck() {
+		throw new UnsupportedOperationException();
+	}
+
+	public static void main(String[] args) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		if (!threads.isThreadAllocatedMemorySupported()) {
+			System.err.println("Thread allocation counting isn't supported by this JVM");
+			System.exit(2);
+		}
+		threads.setThreadAllocatedMemoryEnabled(true);
+
+		ClickFixture fixture = ClickFixture.open();
+		for (int i = 0; i < WARMUP_CLICKS; i++) {
+			fixture.click();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < MEASURED_CLICKS; i++) {
+			fixture.click();
+		}
+		long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+		long dropped = fixture.droppedClicks();
+		fixture.close();
+
+		//a dropped click stops before the button, so it would hide what the rest of the path allocates
+		if (dropped > 0) {
+			System.err.println(dropped + " clicks were dropped by the rate limiter");
+			System.exit(2);
+		}
+
+		double perClick = (double) allocated / MEASURED_CLICKS;
+		System.out.printf("Allocated %d bytes over %d clicks (%.4f bytes/click)%n", allocated, MEASURED_CLICKS, perClick);
+		//a few bytes may come from the counter itself, anything above that is the click path allocating
+		if (perClick >= 1D) {
+			System.err.println("The click dispatch path allocates");
+			System.exit(1);
+		}
+		System.exit(0);
+	}
+
+}
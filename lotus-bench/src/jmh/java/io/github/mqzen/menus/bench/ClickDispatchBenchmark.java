@@ -0,0 +1,34 @@
+package io.github.mqzen.menus.bench;
+
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Dispatching a click on an open view from the listener of Lotus to the clicked button,
+ * the event is created once so that only the dispatch itself is measured.
+ */
+@State(Scope.Thread)
+public class ClickDispatchBenchmark {
+
+	private ClickFixture fixture;
+
+	@Setup
+	public void setup() {
+		fixture = ClickFixture.open();
+	}
+
+	@TearDown
+	public void tearDown() {
+		fixture.close();
+	}
+
+	@Benchmark
+	public InventoryClickEvent dispatchClick() {
+		return fixture.click();
+	}
+
+}
@@ -0,0 +1,101 @@
+package io.github.mqzen.menus.bench;
+
+import io.github.mqzen.menus.Lotus;
+import io.github.mqzen.menus.base.BaseMenuView;
+import io.github.mqzen.menus.base.MenuView;
+import io.github.mqzen.menus.ratelimit.ClickLimit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * A view of {@link BenchMenus.ClickMenu} opened for a stand-in player,
+ * along with a reusable click on its button.
+ * <p>
+ * The click is dispatched to the listener Lotus registers, the way the server does,
+ * so it goes through the whole click path (resolving the view, the rate limiter and the button).
+ * The click limit is raised so that no click is dropped.
+ * </p>
+ */
+final class ClickFixture {
+
+	private static final ClickLimit NO_LIMIT = ClickLimit.perSecond(1_000_000_000, 1_000_000);
+
+	private final Lotus lotus;
+	private final Listener listener;
+	private final Method onClick;
+	private final InventoryClickEvent event;
+	private final Object[] arguments;
+
+	private ClickFixture(Lotus lotus, Listener listener, Method onClick, InventoryClickEvent event) {
+		this.lotus = lotus;
+		this.listener = listener;
+		this.onClick = onClick;
+		this.event = event;
+		this.arguments = new Object[]{event};
+	}
+
+	static ClickFixture open() {
+		Lotus lotus = Lotus.load(BukkitStubs.install());
+		lotus.getClickLimiter().setDefaultLimit(NO_LIMIT);
+		//the listener of this instance is the last one registered
+		List<Listener> listeners = BukkitStubs.listeners();
+		Listener listener = listeners.get(listeners.size() - 1);
+
+		BenchMenus.ClickMenu menu = new BenchMenus.ClickMenu();
+		lotus.registerMenu(menu);
+
+		Player player = BukkitStubs.player("clicker");
+		MenuView<?> view = new BaseMenuView<>(lotus, menu);
+		lotus.openMenu(player, view);
+		if (!view.isOpen())
+			throw new IllegalStateException("The view of the click menu didn't open");
+
+		InventoryClickEvent event = new InventoryClickEvent(player.getOpenInventory(),
+			InventoryType.SlotType.CONTAINER, BenchMenus.ClickMenu.CLICKED_SLOT,
+			ClickType.LEFT, InventoryAction.PICKUP_ALL);
+		return new ClickFixture(lotus, listener, handlerOf(listener, InventoryClickEvent.class), event);
+	}
+
+	private static Method handlerOf(Listener listener, Class<?> eventType) {
+		for (Method method : listener.getClass().getDeclaredMethods()) {
+			if (method.isAnnotationPresent(EventHandler.class) && method.getParameterCount() == 1
+				&& method.getParameterTypes()[0] == eventType) {
+				method.setAccessible(true);
+				return method;
+			}
+		}
+		throw new IllegalStateException("No handler of " + eventType.getSimpleName() + " in " + listener.getClass().getName());
+	}
+
+	InventoryClickEvent click() {
+		//the button cancels the click, the listener skips cancelled clicks
+		event.setCancelled(false);
+		try {
+			onClick.invoke(listener, arguments);
+		} catch (IllegalAccessException | InvocationTargetException ex) {
+			throw new IllegalStateException("Failed to dispatch the click", ex);
+		}
+		return event;
+	}
+
+	/**
+	 * @return the clicks dropped by the rate limiter, which never reached the button
+	 */
+	long droppedClicks() {
+		return lotus.getClickLimiter().getDroppedClicks();
+	}
+
+	void close() {
+		lotus.shutdown();
+	}
+
+}
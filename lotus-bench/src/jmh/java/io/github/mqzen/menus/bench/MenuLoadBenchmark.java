@@ -0,0 +1,84 @@
+package io.github.mqzen.menus.bench;
+
+import io.github.mqzen.menus.base.Content;
+import io.github.mqzen.menus.base.serialization.SerializedMenuIO;
+import io.github.mqzen.menus.base.serialization.impl.SerializedMenuBinary;
+import io.github.mqzen.menus.base.serialization.impl.SerializedMenuYaml;
+import io.github.mqzen.menus.misc.Capacity;
+import io.github.mqzen.menus.misc.DataRegistry;
+import io.github.mqzen.menus.misc.button.Button;
+import org.bukkit.Material;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Loading a full 6-rows menu from its file, as a YAML file ({@link SerializedMenuYaml})
+ * against a binary one ({@link SerializedMenuBinary}) converted from the YAML file.
+ */
+@State(Scope.Thread)
+public class MenuLoadBenchmark {
+
+	private final SerializedMenuYaml yaml = new SerializedMenuYaml();
+	private final SerializedMenuBinary binary = new SerializedMenuBinary();
+
+	private Path directory;
+	private File yamlFile;
+	private Path binaryFile;
+
+	@Setup
+	public void setup() throws IOException {
+		BukkitStubs.install();
+
+		Capacity capacity = Capacity.ofRows(6);
+		Content content = Content.empty(capacity);
+		content.fill(Button.empty(new ItemStack(Material.STONE)));
+
+		DataRegistry registry = new DataRegistry();
+		registry.setData("name", "bench_load");
+		registry.setData("capacity", capacity);
+		registry.setData("title", "Bench");
+		registry.setData("content", content);
+		for (int slot = 0; slot < capacity.getTotalSize(); slot++) {
+			registry.setData("BTN:" + slot, Arrays.asList("CLOSE", "OPEN(bench_click)"));
+		}
+
+		directory = Files.createTempDirectory("lotus-bench");
+		yamlFile = directory.resolve("menu.yml").toFile();
+		binaryFile = directory.resolve("menu.lotm");
+
+		YamlConfiguration configuration = new YamlConfiguration();
+		yaml.write(registry, configuration);
+		configuration.save(yamlFile);
+
+		SerializedMenuIO.convert(yaml, YamlConfiguration.loadConfiguration(yamlFile), binary, binaryFile);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(binaryFile);
+		Files.deleteIfExists(yamlFile.toPath());
+		Files.deleteIfExists(directory);
+	}
+
+	@Benchmark
+	public DataRegistry yaml() {
+		return yaml.read(YamlConfiguration.loadConfiguration(yamlFile));
+	}
+
+	@Benchmark
+	public DataRegistry binary() {
+		return binary.read(binaryFile);
+	}
+
+}
@@ -0,0 +1,62 @@
+package io.github.mqzen.menus.bench;
+
+import io.github.mqzen.menus.Lotus;
+import io.github.mqzen.menus.base.pagination.Pagination;
+import io.github.mqzen.menus.base.pagination.PageComponent;
+import io.github.mqzen.menus.base.pagination.PageView;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Paginating components into pages of 45 slots, eagerly or lazily.
+ * <p>
+ * A fresh pagination is built on every invocation and its first page is fetched,
+ * so both modes are measured up to the point the first page can be opened.
+ * </p>
+ */
+@State(Scope.Thread)
+public class PaginationBenchmark {
+
+	@Param({"100", "10000", "100000"})
+	public int components;
+
+	@Param({"eager", "lazy"})
+	public String mode;
+
+	private Lotus lotus;
+	private Player player;
+	private List<PageComponent> pageComponents;
+
+	@Setup
+	public void setup() {
+		lotus = Lotus.load(BukkitStubs.install());
+		player = BukkitStubs.player("paginator");
+		pageComponents = BenchMenus.components(components);
+	}
+
+	@TearDown
+	public void tearDown() {
+		lotus.shutdown();
+	}
+
+	@Benchmark
+	public Optional<PageView> paginate() {
+		Pagination.Builder.Automatic builder = Pagination.auto(lotus)
+			.creator(new BenchMenus.BenchPage())
+			.componentProvider(() -> pageComponents);
+		if ("lazy".equals(mode)) builder.lazy();
+
+		Pagination pagination = builder.build();
+		pagination.paginate(player);
+		return pagination.getPage(0);
+	}
+
+}
@@ -0,0 +1,42 @@
+package io.github.mqzen.menus.bench;
+
+import io.github.mqzen.menus.base.Content;
+import io.github.mqzen.menus.base.style.TextLayout;
+import io.github.mqzen.menus.base.style.TextLayoutPane;
+import io.github.mqzen.menus.misc.Capacity;
+import io.github.mqzen.menus.misc.button.Button;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Applying a full 6-rows text layout on an empty content.
+ */
+@State(Scope.Thread)
+public class TextLayoutPaneBenchmark {
+
+	private final Capacity capacity = Capacity.ofRows(6);
+
+	private final TextLayoutPane pane = new TextLayoutPane(capacity,
+		TextLayout.builder()
+			.set('#', Button.empty(new ItemStack(Material.GLASS)))
+			.set('x', Button.empty(new ItemStack(Material.STONE)))
+			.set('o', Button.empty(new ItemStack(Material.DIAMOND)))
+			.build(),
+		"#########",
+		"#xxxoxxx#",
+		"#x     x#",
+		"#x     x#",
+		"#xxxoxxx#",
+		"#########");
+
+	@Benchmark
+	public Content applyOn() {
+		Content content = Content.empty(capacity);
+		pane.applyOn(content);
+		return content;
+	}
+
+}
@@ -0,0 +1,79 @@
+package io.github.mqzen.menus.bench;
+
+import io.github.mqzen.menus.base.Content;
+import io.github.mqzen.menus.base.serialization.impl.SerializedMenuYaml;
+import io.github.mqzen.menus.misc.Capacity;
+import io.github.mqzen.menus.misc.DataRegistry;
+import io.github.mqzen.menus.misc.button.Button;
+import org.bukkit.Material;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+
+/**
+ * Reading and writing a full 6-rows menu with {@link SerializedMenuYaml}.
+ * <p>
+ * {@code read} starts from an already parsed configuration, while {@code parseAndRead}
+ * includes parsing the yaml text, which is what loading a menu file costs.
+ * </p>
+ */
+@State(Scope.Thread)
+public class YamlMenuBenchmark {
+
+	private final SerializedMenuYaml serializer = new SerializedMenuYaml();
+
+	private DataRegistry registry;
+	private String yaml;
+	private YamlConfiguration parsed;
+
+	@Setup
+	public void setup() throws InvalidConfigurationException {
+		BukkitStubs.install();
+
+		Capacity capacity = Capacity.ofRows(6);
+		Content content = Content.empty(capacity);
+		content.fill(Button.empty(new ItemStack(Material.STONE)));
+
+		registry = new DataRegistry();
+		registry.setData("name", "bench_yaml");
+		registry.setData("capacity", capacity);
+		registry.setData("title", "Bench");
+		registry.setData("content", content);
+		for (int slot = 0; slot < capacity.getTotalSize(); slot++) {
+			registry.setData("BTN:" + slot, Arrays.asList("CLOSE", "OPEN(bench_click)"));
+		}
+
+		YamlConfiguration configuration = new YamlConfiguration();
+		serializer.write(registry, configuration);
+		yaml = configuration.saveToString();
+
+		parsed = new YamlConfiguration();
+		parsed.loadFromString(yaml);
+	}
+
+	@Benchmark
+	public DataRegistry read() {
+		return serializer.read(parsed);
+	}
+
+	@Benchmark
+	public DataRegistry parseAndRead() throws InvalidConfigurationException {
+		YamlConfiguration configuration = new YamlConfiguration();
+		configuration.loadFromString(yaml);
+		return serializer.read(configuration);
+	}
+
+	@Benchmark
+	public YamlConfiguration write() {
+		YamlConfiguration configuration = new YamlConfiguration();
+		serializer.write(registry, configuration);
+		return configuration;
+	}
+
+}
@@ -1,16 +1,26 @@
 package io.github.mqzen.menus;
 
 import com.google.common.base.Preconditions;
+import io.github.mqzen.menus.base.AsyncMenu;
 import io.github.mqzen.menus.base.BaseMenuView;
+import io.github.mqzen.menus.base.Content;
 import io.github.mqzen.menus.base.Menu;
 import io.github.mqzen.menus.base.MenuView;
 import io.github.mqzen.menus.base.ViewOpener;
+import io.github.mqzen.menus.base.animation.AnimatedButton;
+import io.github.mqzen.menus.base.animation.AnimationEngine;
 import io.github.mqzen.menus.base.serialization.MenuSerializer;
 import io.github.mqzen.menus.base.serialization.SerializableMenu;
 import io.github.mqzen.menus.base.serialization.SerializedMenuIO;
+import io.github.mqzen.menus.base.serialization.impl.SerializedMenuBinary;
 import io.github.mqzen.menus.base.serialization.impl.SerializedMenuYaml;
+import io.github.mqzen.menus.metrics.LotusMetrics;
+import io.github.mqzen.menus.misc.Capacity;
 import io.github.mqzen.menus.misc.DataRegistry;
 import io.github.mqzen.menus.openers.DefaultViewOpener;
+import io.github.mqzen.menus.openers.PooledViewOpener;
+import io.github.mqzen.menus.ratelimit.ClickLimit;
+import io.github.mqzen.menus.ratelimit.ClickRateLimiter;
 import io.github.mqzen.menus.util.InventoryUtil;
 import lombok.Getter;
 import lombok.Setter;
@@ -23,8 +33,27 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.*;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This class represents the main handler for Lotus's API,
@@ -43,9 +72,34 @@ public final class Lotus {
 	@Getter
 	private final DefaultViewOpener defaultOpener = new DefaultViewOpener();
 	
+	/**
+	 * The opener reusing pooled inventories, null unless pooling is enabled
+	 */
+	private @Nullable PooledViewOpener pooledOpener;
+	private @Nullable BukkitTask poolEvictionTask;
+	
 	private final EnumMap<InventoryType, ViewOpener> openers = new EnumMap<>(InventoryType.class);
-	private final Map<UUID, MenuView<?>> openMenus = new HashMap<>();
-	private final Map<String, Menu> preRegisteredMenus = new HashMap<>();
+	private final ViewRegistry views = new ViewRegistry();
+	
+	/**
+	 * The metrics recorded while opening views, dispatching clicks, flushing and animating
+	 */
+	@Getter
+	private final LotusMetrics metrics = new LotusMetrics(views::size);
+	
+	/**
+	 * The limiter of how fast players click in menus, 20 clicks per second (with bursts of 10) by default
+	 */
+	@Getter
+	private final ClickRateLimiter clickLimiter = new ClickRateLimiter(ClickLimit.DEFAULT);
+	
+	/**
+	 * The registered menus, it's copied on write and swapped as a whole,
+	 * so it's read without locking and a bulk load is registered atomically.
+	 */
+	private volatile Map<String, Menu> preRegisteredMenus = Collections.emptyMap();
+	private final Map<String, Content> menuTemplates = new ConcurrentHashMap<>();
+	private final List<MenuWatcher> watchers = new CopyOnWriteArrayList<>();
 	
 	@Getter
 	private final Plugin plugin;
@@ -62,17 +116,45 @@ public final class Lotus {
 	@Setter
 	private MenuSerializer menuSerializer;
 	
+	/**
+	 * The period (in ticks) of the task applying the animation frames
+	 * computed off the main thread.
+	 */
+	@Getter
+	private long updateTicks = 1L;
+	private MenuUpdateTask updateTask;
+	
+	private final MenuFlushTask flushTask;
+	
+	@Getter
+	private final AnimationEngine animationEngine;
+	
+	/**
+	 * The executor of the asynchronous work of the API, such as loading the content of {@link AsyncMenu}s,
+	 * its threads are daemons and the idle ones are stopped after a while.
+	 */
 	@Getter
-	private long updateTicks = 15L;
+	private final ExecutorService asyncExecutor;
     
     private Lotus(Plugin plugin) {
 		this.plugin = plugin;
-		menuIO = new SerializedMenuYaml();
+		menuIO = new SerializedMenuYaml(plugin.getLogger());
 		menuSerializer = MenuSerializer.newDefaultSerializer();
 		
 		registerOpeners();
 
 		Bukkit.getPluginManager().registerEvents(new LotusListener(), plugin);
+		
+		flushTask = MenuFlushTask.newTask(this);
+		flushTask.runTaskTimer(plugin, 1L, 1L);
+		
+		animationEngine = new AnimationEngine(this);
+		animationEngine.start();
+		
+		asyncExecutor = newAsyncExecutor();
+		
+		updateTask = MenuUpdateTask.newTask(this);
+		updateTask.runTaskTimer(plugin, updateTicks, updateTicks);
 	}
 	
 	public static Lotus load(Plugin plugin) {
@@ -80,14 +162,101 @@ public final class Lotus {
 		return new Lotus(plugin);
 	}
 	
+	private static ExecutorService newAsyncExecutor() {
+		//the work is mostly blocking I/O, so tasks are queued rather than ran by the caller (the main thread)
+		int workers = Math.max(2, Runtime.getRuntime().availableProcessors());
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), new AsyncWorkerFactory());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+	
 	private void registerOpeners() {
 		//TODO register the rest of openers
 	}
 	
+	/**
+	 * Sets the period of the task applying the animation frames, restarting the task
+	 *
+	 * @param updateTicks the period in ticks, at least 1
+	 */
+	public void setUpdateTicks(long updateTicks) {
+		Preconditions.checkArgument(updateTicks >= 1L, "Update ticks must be at least 1");
+		this.updateTicks = updateTicks;
+		updateTask.cancel();
+		updateTask = MenuUpdateTask.newTask(this);
+		updateTask.runTaskTimer(plugin, updateTicks, updateTicks);
+	}
+	
+	/**
+	 * Stops the tasks of the API (animations, updates, flushes, asynchronous loads, menu watchers and inventory pooling),
+	 * it's meant to be called when the plugin is disabling.
+	 */
+	public void shutdown() {
+		disableInventoryPooling();
+		for (MenuWatcher watcher : watchers) watcher.close();
+		watchers.clear();
+		animationEngine.stop();
+		asyncExecutor.shutdownNow();
+		updateTask.cancel();
+		flushTask.cancel();
+	}
+	
+	/**
+	 * Makes menus without a specific opener open in inventories pooled per player and reused
+	 * when a menu of the same size and title is opened again, instead of creating a new inventory each time,
+	 * an inventory that hasn't been reused for 5 minutes is evicted.
+	 *
+	 * @see PooledViewOpener
+	 */
+	public void enableInventoryPooling() {
+		enableInventoryPooling(TimeUnit.MINUTES.toMillis(5));
+	}
+	
+	/**
+	 * Makes menus without a specific opener open in inventories pooled per player and reused
+	 * when a menu of the same size and title is opened again, instead of creating a new inventory each time.
+	 * The inventories of a player are evicted when the player quits.
+	 *
+	 * @param idleMillis the time (in milliseconds) after which an inventory that hasn't been reused is evicted
+	 * @see PooledViewOpener
+	 */
+	public void enableInventoryPooling(long idleMillis) {
+		Preconditions.checkArgument(idleMillis > 0L, "Idle time must be positive");
+		disableInventoryPooling();
+		PooledViewOpener opener = new PooledViewOpener(idleMillis);
+		//checking for idle inventories a few times per idle period, at most once per second
+		long periodTicks = Math.max(20L, idleMillis / 50L / 4L);
+		poolEvictionTask = Bukkit.getScheduler().runTaskTimer(plugin, opener::evictIdle, periodTicks, periodTicks);
+		pooledOpener = opener;
+	}
+	
+	/**
+	 * Stops pooling inventories, the pooled inventories are dropped
+	 */
+	public void disableInventoryPooling() {
+		if (poolEvictionTask != null) {
+			poolEvictionTask.cancel();
+			poolEvictionTask = null;
+		}
+		if (pooledOpener != null) {
+			pooledOpener.clear();
+			pooledOpener = null;
+		}
+	}
+	
+	public boolean isInventoryPoolingEnabled() {
+		return pooledOpener != null;
+	}
+	
 	public void enableDebugger() {
 		this.debugger = new LotusDebugger(plugin.getLogger());
 	}
 	
+	public LotusDebugger getDebugger() {
+		return debugger;
+	}
+	
 	public boolean isDebuggerEnabled() {
 		return !debugger.isEmpty();
 	}
@@ -113,6 +282,31 @@ public final class Lotus {
 		SerializedMenuIO<YamlConfiguration> yamlIO = (SerializedMenuIO<YamlConfiguration>) menuIO;
 		yamlIO.write(menuSerializer.serialize(menu), configuration);
 	}
+
+	/**
+	 * Reads a menu using the given IO rather than the default one (see {@link #getMenuIO()}),
+	 * e.g: a {@link io.github.mqzen.menus.base.serialization.impl.SerializedMenuBinary} for a binary menu file
+	 *
+	 * @param io   the IO of the format of the file
+	 * @param file the file of the menu
+	 * @param <F>  the file type
+	 * @return the menu read
+	 */
+	public <F> Menu readMenu(SerializedMenuIO<F> io, F file) {
+		return menuSerializer.deserialize(io.read(file));
+	}
+	
+	/**
+	 * Writes a menu using the given IO rather than the default one (see {@link #getMenuIO()})
+	 *
+	 * @param io   the IO of the format of the file
+	 * @param menu the menu to write
+	 * @param file the file to write the menu into
+	 * @param <F>  the file type
+	 */
+	public <F> void writeMenu(SerializedMenuIO<F> io, SerializableMenu menu, F file) {
+		io.write(menuSerializer.serialize(menu), file);
+	}
 	
 	/**
 	 * @param name the name of the cached menu
@@ -127,7 +321,15 @@ public final class Lotus {
 	 * @return the menu view opened by the player who has the uuid
 	 */
 	public Optional<MenuView<?>> getMenuView(UUID playerUUID) {
-		return Optional.ofNullable(openMenus.get(playerUUID));
+		return Optional.ofNullable(views.get(playerUUID));
+	}
+	
+	/**
+	 * @param topInventory the top inventory of an open view
+	 * @return the open view displayed in the inventory, or null if the inventory isn't of an open view
+	 */
+	public @Nullable MenuView<?> getMenuView(Inventory topInventory) {
+		return views.get(topInventory);
 	}
 	
 	/**
@@ -147,7 +349,263 @@ public final class Lotus {
 	public void registerMenu(Menu menu) {
 		Preconditions.checkNotNull(menu);
 		Preconditions.checkNotNull(menu.getName());
-		preRegisteredMenus.put(menu.getName().toLowerCase(), menu);
+		String name = menu.getName().toLowerCase();
+		buildTemplate(name, menu);
+		synchronized (this) {
+			Map<String, Menu> menus = new HashMap<>(preRegisteredMenus);
+			menus.put(name, menu);
+			preRegisteredMenus = menus;
+		}
+	}
+	
+	/**
+	 * Loads every menu file under a directory (and its sub-directories) in parallel, then registers them all at once.
+	 * <p>
+	 * Files ending with {@code .yml} or {@code .yaml} are read as YAML,
+	 * and files ending with {@code .lotm} as binary menus (see {@link SerializedMenuBinary}), other files are skipped.
+	 * </p>
+	 *
+	 * @param directory the directory of the menu files
+	 * @return the loaded menus
+	 * @throws UncheckedIOException if the directory couldn't be walked
+	 * @throws IllegalStateException if any menu file has failed to load
+	 * @see #loadMenuFiles(Collection)
+	 */
+	public List<Menu> loadMenus(Path directory) {
+		List<Path> files;
+		try (Stream<Path> walk = Files.walk(directory)) {
+			files = walk.filter(Files::isRegularFile)
+				.filter((file) -> menuFormatOf(file) != null)
+				.collect(Collectors.toList());
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return loadMenuFiles(files);
+	}
+	
+	/**
+	 * Loads menu files in parallel, then registers them all at once.
+	 * <p>
+	 * Reading and parsing the files, deserializing them through the {@link MenuSerializer}
+	 * and building their templates run on the common fork-join pool, the loaded menus are registered
+	 * in a single swap only once every file has loaded, so menus are never opened from a half-loaded directory.
+	 * If any file fails to load, nothing is registered and the failure of each file is attached to the thrown exception.
+	 * Button actions must be registered before loading, as they're resolved while loading.
+	 * </p>
+	 * <p>
+	 * The open views of the menus replaced are patched in place on the main thread (see {@link BaseMenuView#patchMenu(Menu)}),
+	 * or reopened for the new menus if their title or capacity has changed.
+	 * </p>
+	 *
+	 * @param files the menu files
+	 * @return the loaded menus
+	 * @throws IllegalStateException if any menu file has failed to load
+	 */
+	public List<Menu> loadMenuFiles(Collection<Path> files) {
+		SerializedMenuYaml yamlIO = new SerializedMenuYaml(plugin.getLogger());
+		SerializedMenuBinary binaryIO = new SerializedMenuBinary(plugin.getLogger());
+		List<LoadedMenu> loaded = files.parallelStream()
+			.map((file) -> loadMenuFile(file, yamlIO, binaryIO))
+			.collect(Collectors.toList());
+		
+		List<Exception> errors = new ArrayList<>();
+		for (LoadedMenu result : loaded) {
+			if (result.error != null) errors.add(result.error);
+		}
+		if (!errors.isEmpty()) {
+			IllegalStateException failure = new IllegalStateException(errors.size() + " of " + loaded.size()
+				+ " menu files failed to load, none of them were registered");
+			errors.forEach(failure::addSuppressed);
+			throw failure;
+		}
+		
+		List<Menu> menus = new ArrayList<>(loaded.size());
+		Map<Menu, Menu> replaced = new IdentityHashMap<>();
+		synchronized (this) {
+			Map<String, Menu> registered = new HashMap<>(preRegisteredMenus);
+			for (LoadedMenu result : loaded) {
+				//templates go first, as they're only used for the menu they were built from
+				if (result.template == null) menuTemplates.remove(result.name);
+				else menuTemplates.put(result.name, result.template);
+				Menu old = registered.put(result.name, result.menu);
+				if (old != null && old != result.menu) replaced.put(old, result.menu);
+				menus.add(result.menu);
+			}
+			preRegisteredMenus = registered;
+		}
+		
+		if (!replaced.isEmpty()) {
+			if (Bukkit.isPrimaryThread()) patchViews(replaced);
+			else Bukkit.getScheduler().runTask(plugin, () -> patchViews(replaced));
+		}
+		return menus;
+	}
+	
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private void patchViews(Map<Menu, Menu> replaced) {
+		for (MenuView<?> view : views.snapshot()) {
+			Menu newMenu = replaced.get(view.getMenu());
+			if (newMenu == null || !(view instanceof BaseMenuView)) continue;
+			
+			Player player = view.getPlayer().orElse(null);
+			try {
+				if (view.getMenu().getClass().isInstance(newMenu) && ((BaseMenuView) view).patchMenu(newMenu)) continue;
+				if (player != null) openMenu(player, newMenu, view.getExtraData());
+			} catch (Exception ex) {
+				debugger.error("Failed to patch the open view of menu '" + newMenu.getName() + "'", ex);
+			}
+		}
+	}
+	
+	/**
+	 * Watches a directory of menu files, reloading the changed files (see {@link #loadMenuFiles(Collection)})
+	 * once no more changes happen within 250 milliseconds.
+	 *
+	 * @param directory the directory of the menu files
+	 * @return the started watcher, it's closed by {@link #shutdown()}
+	 * @throws UncheckedIOException if the directory couldn't be watched
+	 */
+	public MenuWatcher watchMenus(Path directory) {
+		return watchMenus(directory, MenuWatcher.DEFAULT_DEBOUNCE_MILLIS);
+	}
+	
+	/**
+	 * Watches a directory of menu files, reloading the changed files (see {@link #loadMenuFiles(Collection)})
+	 * once no more changes happen within the debounce period.
+	 *
+	 * @param directory      the directory of the menu files
+	 * @param debounceMillis the quiet period (in milliseconds) after a change before the changed files are reloaded
+	 * @return the started watcher, it's closed by {@link #shutdown()}
+	 * @throws UncheckedIOException if the directory couldn't be watched
+	 */
+	public MenuWatcher watchMenus(Path directory, long debounceMillis) {
+		Preconditions.checkArgument(debounceMillis >= 0L, "Debounce period cannot be negative");
+		MenuWatcher watcher;
+		try {
+			watcher = new MenuWatcher(this, directory, debounceMillis);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		watchers.add(watcher);
+		watcher.start();
+		return watcher;
+	}
+	
+	private LoadedMenu loadMenuFile(Path file, SerializedMenuYaml yamlIO, SerializedMenuBinary binaryIO) {
+		try {
+			DataRegistry data;
+			if (menuFormatOf(file) == SerializedMenuBinary.class) {
+				data = binaryIO.read(file);
+			} else {
+				YamlConfiguration configuration = new YamlConfiguration();
+				configuration.load(file.toFile());
+				data = yamlIO.read(configuration);
+			}
+			
+			Menu menu = menuSerializer.deserialize(data);
+			if (menu.getName() == null)
+				throw new IllegalArgumentException("the menu has no name");
+			return new LoadedMenu(menu.getName().toLowerCase(), menu, createTemplate(menu), null);
+		} catch (Exception ex) {
+			return new LoadedMenu(null, null, null, new IllegalStateException("Failed to load the menu file " + file, ex));
+		}
+	}
+	
+	static @Nullable Class<?> menuFormatOf(Path file) {
+		String fileName = file.getFileName().toString().toLowerCase();
+		if (fileName.endsWith(".yml") || fileName.endsWith(".yaml")) return SerializedMenuYaml.class;
+		if (fileName.endsWith(".lotm")) return SerializedMenuBinary.class;
+		return null;
+	}
+	
+	private static final class LoadedMenu {
+		
+		private final String name;
+		private final Menu menu;
+		private final @Nullable Content template;
+		private final @Nullable Exception error;
+		
+		private LoadedMenu(String name, Menu menu, @Nullable Content template, @Nullable Exception error) {
+			this.name = name;
+			this.menu = menu;
+			this.template = template;
+			this.error = error;
+		}
+	}
+	
+	/**
+	 * Rebuilds the cached template (the static content or the static layer) of a registered menu,
+	 * e.g: after what its static layer shows has changed.
+	 * Views that are already open keep reading through the previous template.
+	 *
+	 * @param menuName the name of the registered menu
+	 * @return whether the menu is registered
+	 * @see Menu#hasStaticLayer()
+	 */
+	public boolean invalidateTemplate(String menuName) {
+		String name = menuName.toLowerCase();
+		Menu menu = preRegisteredMenus.get(name);
+		if (menu == null) return false;
+		buildTemplate(name, menu);
+		return true;
+	}
+	
+	private void buildTemplate(String name, Menu menu) {
+		Content template = createTemplate(menu);
+		if (template == null) menuTemplates.remove(name);
+		else menuTemplates.put(name, template);
+	}
+	
+	private @Nullable Content createTemplate(Menu menu) {
+		//only the menus opting in are built without an opener
+		boolean fullyStatic = menu.isFullyStatic();
+		if (!fullyStatic && !menu.hasStaticLayer()) return null;
+		
+		Content content;
+		try {
+			DataRegistry data = DataRegistry.empty();
+			Capacity capacity = menu.getCapacity(data, null);
+			content = fullyStatic
+				? menu.getContent(data, null, capacity)
+				: menu.getStaticLayer(capacity);
+		} catch (Exception ex) {
+			debugger.error("Failed to build the template of menu '" + menu.getName() + "', its content will be built on every open", ex);
+			return null;
+		}
+		if (content == null) return null;
+		
+		for (int slot = 0; slot < content.capacity().getTotalSize(); slot++) {
+			if (content.buttonAt(slot) instanceof AnimatedButton) {
+				debugger.warn("Menu '%s' has animated buttons, its content won't be shared as a template", menu.getName());
+				return null;
+			}
+		}
+		return Content.template(content);
+	}
+	
+	/**
+	 * @param menu the menu
+	 * @return the shared content template of the menu if it's registered with a static content
+	 * or a static layer, otherwise null.
+	 * @see Menu#isFullyStatic()
+	 * @see Menu#hasStaticLayer()
+	 */
+	public @Nullable Content getMenuTemplate(Menu menu) {
+		if (menu.getName() == null) return null;
+		String name = menu.getName().toLowerCase();
+		if (preRegisteredMenus.get(name) != menu) return null;
+		return menuTemplates.get(name);
+	}
+	
+	/**
+	 * Queues a view having dirty slots to be flushed at the next tick,
+	 * views call it once until they're flushed.
+	 *
+	 * @param view the view to flush
+	 * @see MenuView#markDirty(io.github.mqzen.menus.misc.Slot)
+	 */
+	public void queueFlush(MenuView<?> view) {
+		flushTask.queue(view);
 	}
 	
 	/**
@@ -159,12 +617,13 @@ public final class Lotus {
 	public void setOpenView(Player player, MenuView<?> playerMenuView) {
 		Preconditions.checkNotNull(player);
 		Preconditions.checkNotNull(playerMenuView);
-		openMenus.put(player.getUniqueId(), playerMenuView);
+		views.bind(player.getUniqueId(), playerMenuView, playerMenuView.getInventory());
 	}
 	
 	/**
 	 * Closes an open menu view during InventoryCloseEvent
-	 * it runs onClose of the menu view then removes it from open view views cache
+	 * it runs onClose of the menu view then removes it from open view views cache,
+	 * unless another view has been opened for the player meanwhile.
 	 *
 	 * @param view  the menu view
 	 * @param event the close event
@@ -178,7 +637,7 @@ public final class Lotus {
 			Lotus.this.debugger.error("Error while closing menu for player '" + event.getPlayer().getName() + "' : ", e);
 		}
 		finally {
-			openMenus.remove(event.getPlayer().getUniqueId());
+			views.unbind(event.getPlayer().getUniqueId(), view);
 		}
 	}
 	
@@ -190,8 +649,11 @@ public final class Lotus {
 	 */
 	public void openMenu(Player player, MenuView<?> view) {
 		setOpenView(player, view);
-		ViewOpener opener = getViewOpener(view.getType()).orElse(defaultOpener);
+		ViewOpener opener = getViewOpener(view.getType()).orElse(pooledOpener != null ? pooledOpener : defaultOpener);
 		view.openView(opener, player);
+		//indexing the inventory of the view, in case the opener didn't fire an InventoryOpenEvent
+		if (view.getInventory() != null && views.get(player.getUniqueId()) == view)
+			setOpenView(player, view);
 	}
 	
 	/**
@@ -235,16 +697,61 @@ public final class Lotus {
 	}
 	
 	/**
-	 * @return Retrieves the open {@link MenuView}
+	 * @return a snapshot of the open {@link MenuView}s, it doesn't change as views are opened or closed
 	 */
 	public Collection<? extends MenuView<?>> getOpenViews() {
-		return openMenus.values();
+		return views.snapshot();
+	}
+	
+	/**
+	 * Resolves the open view of an inventory event, the inventories that aren't held by a view are rejected first,
+	 * then it uses the inventory index, then the holder of the inventory for views opened outside the API.
+	 */
+	private @Nullable MenuView<?> resolveView(Player player, Inventory topInventory) {
+		//inventories that no view can hold (e.g: the player's own inventory) are rejected before probing the registry
+		InventoryHolder holder = topInventory.getHolder();
+		if (!(holder instanceof MenuView<?>) && !(holder instanceof PooledViewOpener.PooledHolder))
+			return null;
+		
+		//the registry takes precedence over the holder, which isn't updated when a page is switched in place
+		MenuView<?> view = views.get(topInventory);
+		if (view != null) return view;
+		
+		view = holderView(holder);
+		if (view != null)
+			views.bind(player.getUniqueId(), view, topInventory);
+		return view;
+	}
+	
+	/**
+	 * @return the view holding the inventory, either directly or through a pooled inventory holder
+	 */
+	private static @Nullable MenuView<?> holderView(Inventory inventory) {
+		return holderView(inventory.getHolder());
+	}
+	
+	private static @Nullable MenuView<?> holderView(@Nullable InventoryHolder holder) {
+		if (holder instanceof MenuView<?>) return (MenuView<?>) holder;
+		if (holder instanceof PooledViewOpener.PooledHolder) return ((PooledViewOpener.PooledHolder) holder).getView();
+		return null;
 	}
 
 	public void debug(String msg, Object... args) {
 		debugger.debug(msg, args);
 	}
 
+	private static final class AsyncWorkerFactory implements ThreadFactory {
+		
+		private final AtomicInteger counter = new AtomicInteger(0);
+		
+		@Override
+		public Thread newThread(@NotNull Runnable runnable) {
+			Thread thread = new Thread(runnable, "Lotus-Async-Worker-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+	
 	final class LotusListener implements Listener {
 		@EventHandler(priority = EventPriority.LOW)
 		public void onClick(InventoryClickEvent e) {
@@ -258,14 +765,7 @@ public final class Lotus {
 			Inventory clickedInventory = e.getClickedInventory();
 
 
-			MenuView<?> menu = Lotus.this.getMenuView(clicker.getUniqueId()).orElseGet(() -> {
-				if (topInventory.getHolder() instanceof MenuView<?>) {
-					MenuView<?> playerMenu = (MenuView<?>) topInventory.getHolder();
-					Lotus.this.setOpenView(clicker, playerMenu);
-					return playerMenu;
-				}
-				return null;
-			});
+			MenuView<?> menu = Lotus.this.resolveView(clicker, topInventory);
 
 			if (menu == null) {
 				e.setCancelled(!Lotus.this.allowOutsideClick);
@@ -274,8 +774,15 @@ public final class Lotus {
 
 			if (clickedInventory == null)
 				return;
+			
+			if (!Lotus.this.clickLimiter.tryClick(clicker, menu, e)) {
+				e.setCancelled(true);
+				return;
+			}
 
-			Lotus.this.debug("Triggering InventoryClickEvent");
+			//guarded, as the empty varargs array would be allocated on every click otherwise
+			if (!Lotus.this.debugger.isEmpty())
+				Lotus.this.debug("Triggering InventoryClickEvent");
 			menu.handleOnClick(e);
 		}
 
@@ -285,14 +792,7 @@ public final class Lotus {
 			Inventory clickedInventory = e.getInventory();
 
 			final Inventory topInventory = InventoryUtil.getTopInventory(e);
-			MenuView<?> menu = Lotus.this.getMenuView(clicker.getUniqueId()).orElseGet(() -> {
-				if (topInventory.getHolder() instanceof MenuView<?>) {
-					MenuView<?> playerMenu = (MenuView<?>)topInventory.getHolder();
-					Lotus.this.setOpenView(clicker, playerMenu);
-					return playerMenu;
-				}
-				return null;
-			});
+			MenuView<?> menu = Lotus.this.resolveView(clicker, topInventory);
 
 			if (menu == null) {
 				e.setCancelled(!Lotus.this.allowOutsideClick);
@@ -315,26 +815,34 @@ public final class Lotus {
 
 		@EventHandler(priority = EventPriority.LOW)
 		public void onClose(InventoryCloseEvent e) {
-			Player closer = (Player) e.getPlayer();
 			Lotus.this.debug("Triggering InventoryCloseEvent");
-			Lotus.this.getMenuView(closer.getUniqueId()).ifPresent((menu) -> Lotus.this.closeView(menu, e));
+			//the closed inventory tells which view is closing, the player may already have another view bound
+			MenuView<?> menu = Lotus.this.views.get(e.getInventory());
+			if (menu == null)
+				menu = holderView(e.getInventory());
+			if (menu != null)
+				Lotus.this.closeView(menu, e);
 		}
 
 		@EventHandler(priority = EventPriority.LOW)
 		public void onOpen(InventoryOpenEvent e) {
 
 			Inventory inventory = e.getInventory();
-			if (!(inventory.getHolder() instanceof MenuView<?>))
+			MenuView<?> menu = holderView(inventory);
+			if (menu == null)
 				return;
-			MenuView<?> menu = (MenuView<?>)inventory.getHolder();
-			Lotus.this.setOpenView((Player) e.getPlayer(), menu);
+			Lotus.this.views.bind(e.getPlayer().getUniqueId(), menu, inventory);
 			menu.onOpen(e);
 		}
 
 		@EventHandler(priority = EventPriority.LOW)
 		public void onForceClosure(PlayerQuitEvent event) {
 			Player player = event.getPlayer();
-			Lotus.this.openMenus.remove(player.getUniqueId());
+			Lotus.this.views.unbind(player.getUniqueId());
+			Lotus.this.clickLimiter.forget(player.getUniqueId());
+			PooledViewOpener opener = Lotus.this.pooledOpener;
+			if (opener != null)
+				opener.evict(player.getUniqueId());
 		}
 	}
 
@@ -0,0 +1,47 @@
+package io.github.mqzen.menus;
+
+import io.github.mqzen.menus.base.MenuView;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Runs once per tick, writing the dirty slots of every queued view
+ * to its inventory, so a view gets at most one inventory update per tick
+ * no matter how many of its buttons have changed.
+ *
+ * @see MenuView#markDirty(io.github.mqzen.menus.misc.Slot)
+ */
+final class MenuFlushTask extends BukkitRunnable {
+
+    private final Lotus lotus;
+    private final Queue<MenuView<?>> queue = new ConcurrentLinkedQueue<>();
+
+    private MenuFlushTask(Lotus lotus) {
+        this.lotus = lotus;
+    }
+
+    static MenuFlushTask newTask(Lotus lotus) {
+        return new MenuFlushTask(lotus);
+    }
+
+    void queue(MenuView<?> view) {
+        queue.offer(view);
+    }
+
+    @Override
+    public void run() {
+        //views queued again during this flush are left for the next tick
+        int pending = queue.size();
+        for (int i = 0; i < pending; i++) {
+            MenuView<?> view = queue.poll();
+            if (view == null) break;
+            try {
+                view.flushDirtySlots();
+            } catch (Throwable ex) {
+                lotus.debugger.error("Failed to flush the changed slots of a menu view", ex);
+            }
+        }
+    }
+}
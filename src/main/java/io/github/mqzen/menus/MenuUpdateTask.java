@@ -1,53 +1,77 @@
 package io.github.mqzen.menus;
 
 import io.github.mqzen.menus.base.MenuView;
-import io.github.mqzen.menus.base.animation.AnimatedButton;
-import io.github.mqzen.menus.misc.Slot;
+import io.github.mqzen.menus.base.animation.AnimationEngine;
+import io.github.mqzen.menus.base.animation.AnimationFrame;
 import io.github.mqzen.menus.misc.button.Button;
-import lombok.AllArgsConstructor;
-import lombok.Data;
 import org.bukkit.scheduler.BukkitRunnable;
-import java.util.HashSet;
-import java.util.Map;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Set;
 
+/**
+ * The main-thread stage of the animation pipeline, it runs every {@link Lotus#getUpdateTicks()} ticks
+ * applying the frames computed off the main thread by the {@link AnimationEngine},
+ * then flushes every view it has touched once.
+ * <p>
+ * A frame failing to apply is logged and skipped, it never stops the task.
+ * </p>
+ */
 final class MenuUpdateTask extends BukkitRunnable {
+
     private final Lotus lotus;
+    private final Set<MenuView<?>> touchedViews = Collections.newSetFromMap(new IdentityHashMap<>());
+
     private MenuUpdateTask(Lotus lotus) {
         this.lotus = lotus;
     }
-    
+
     static MenuUpdateTask newTask(Lotus lotus) {
         return new MenuUpdateTask(lotus);
     }
-    
+
     @Override
     public void run() {
-        try {
-            for (MenuView<?> menuView : lotus.getOpenViews()) {
-                Set<AnimatedButtonEntry> buttons = getAnimatedButtons(menuView);
-                buttons.parallelStream().forEach((animatedButton) ->
-                        menuView.updateButton(animatedButton.slot, (b) -> ((AnimatedButton) b).animate(animatedButton.slot, menuView)));
+        AnimationEngine engine = lotus.getAnimationEngine();
+        AnimationFrame frame;
+        int frames = 0;
+        while ((frame = engine.pollFrame()) != null) {
+            frames++;
+            try {
+                apply(frame);
+            } catch (Throwable ex) {
+                lotus.debugger.error("Failed to apply an animation frame at slot " + frame.getSlot().getSlot(), ex);
             }
-        }catch (Throwable ex) {
-            lotus.debugger.error("Failed to continue the menu update task", ex);
-            this.cancel();
         }
-    }
-    private Set<AnimatedButtonEntry> getAnimatedButtons(MenuView<?> view) {
-        Set<AnimatedButtonEntry> buttons = new HashSet<>();
-        for(Map.Entry<Slot, Button> entry : view.getContent().getButtonMap().entrySet()) {
-            if(entry.getValue() instanceof AnimatedButton) {
-                AnimatedButton animatedButton = (AnimatedButton)entry.getValue();
-                buttons.add(new AnimatedButtonEntry(entry.getKey(),  animatedButton));
+
+        for (MenuView<?> view : touchedViews) {
+            try {
+                view.flushDirtySlots();
+            } catch (Throwable ex) {
+                lotus.debugger.error("Failed to flush the animation frames of a menu view", ex);
             }
         }
-        return buttons;
+        touchedViews.clear();
+        if (frames > 0) lotus.getMetrics().recordAsyncFrames(frames);
     }
 
-    @Data @AllArgsConstructor
-    static final class AnimatedButtonEntry {
-        final Slot slot;
-        final AnimatedButton button;
+    private void apply(AnimationFrame frame) {
+        MenuView<?> view = frame.getView();
+        if (!view.isOpen()) return;
+
+        if (frame.isDeferred()) {
+            frame.getButton().animate(frame.getSlot(), view);
+            touchedViews.add(view);
+            return;
+        }
+
+        //the button may have been replaced since the frame was computed
+        Button current = view.getContent().buttonAt(frame.getSlot().getSlot());
+        if (current != frame.getButton()) return;
+
+        current.setItem(frame.getItem());
+        view.markDirty(frame.getSlot());
+        touchedViews.add(view);
     }
 }
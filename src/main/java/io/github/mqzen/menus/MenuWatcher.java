@@ -0,0 +1,175 @@
+package io.github.mqzen.menus;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+/**
+ * Watches a directory of menu files (and its sub-directories) on its own daemon thread,
+ * the changed files are collected until no more changes happen within the debounce period,
+ * then they're reloaded together through {@link Lotus#loadMenuFiles(java.util.Collection)},
+ * which swaps the new menus into the registry and patches their open views.
+ * <p>
+ * Deleted files are ignored, their menus stay registered.
+ * </p>
+ *
+ * @see Lotus#watchMenus(Path, long)
+ */
+public final class MenuWatcher implements AutoCloseable {
+
+    static final long DEFAULT_DEBOUNCE_MILLIS = 250L;
+
+    private final Lotus lotus;
+    private final Path directory;
+    private final long debounceMillis;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    //only accessed by the watcher thread
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final Set<Path> changedFiles = new LinkedHashSet<>();
+
+    private volatile boolean running = true;
+
+    MenuWatcher(Lotus lotus, Path directory, long debounceMillis) throws IOException {
+        this.lotus = lotus;
+        this.directory = directory;
+        this.debounceMillis = debounceMillis;
+        this.watchService = directory.getFileSystem().newWatchService();
+        try {
+            watchTree(directory);
+        } catch (IOException ex) {
+            watchService.close();
+            throw ex;
+        }
+        this.thread = new Thread(this::watch, "Lotus-Menu-Watcher");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * @return the watched directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return whether the directory is still watched
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops watching the directory, changes that are still being debounced are dropped
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            watchService.close();
+        } catch (IOException ignored) {
+        }
+        thread.interrupt();
+    }
+
+    private void watch() {
+        while (running) {
+            WatchKey key;
+            try {
+                key = changedFiles.isEmpty()
+                        ? watchService.take()
+                        : watchService.poll(debounceMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException | ClosedWatchServiceException ex) {
+                return;
+            }
+
+            if (key == null) {
+                //the debounce period has passed without more changes
+                reloadChangedFiles();
+                continue;
+            }
+            try {
+                collectChanges(key);
+            } catch (IOException ex) {
+                lotus.getPlugin().getLogger().log(Level.WARNING, "Failed to watch the new menu directories in " + directory, ex);
+            }
+        }
+    }
+
+    private void collectChanges(WatchKey key) throws IOException {
+        Path parent = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            WatchEvent.Kind<?> kind = event.kind();
+            if (kind == StandardWatchEventKinds.OVERFLOW) {
+                //events were lost, every menu file may have changed
+                addMenuFiles(directory);
+                continue;
+            }
+            if (parent == null || kind == StandardWatchEventKinds.ENTRY_DELETE) continue;
+
+            Path file = parent.resolve((Path) event.context());
+            if (kind == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(file)) {
+                watchTree(file);
+                addMenuFiles(file);
+            } else if (Lotus.menuFormatOf(file) != null) {
+                changedFiles.add(file);
+            }
+        }
+        if (!key.reset()) directories.remove(key);
+    }
+
+    private void reloadChangedFiles() {
+        List<Path> files = new ArrayList<>(changedFiles.size());
+        for (Path file : changedFiles) {
+            //editors may save through a temporary file, which is gone by now
+            if (Files.isRegularFile(file)) files.add(file);
+        }
+        changedFiles.clear();
+        if (files.isEmpty() || !running) return;
+
+        try {
+            lotus.loadMenuFiles(files);
+            lotus.debug("Reloaded %s menu files from %s", files.size(), directory);
+        } catch (Exception ex) {
+            lotus.getPlugin().getLogger().log(Level.WARNING, "Failed to reload the changed menu files " + files, ex);
+        }
+    }
+
+    private void watchTree(Path root) throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (Path dir : (Iterable<Path>) walk.filter(Files::isDirectory)::iterator) {
+                WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                directories.put(key, dir);
+            }
+        }
+    }
+
+    private void addMenuFiles(Path root) throws IOException {
+        try (Stream<Path> walk = Files.walk(root)) {
+            walk.filter(Files::isRegularFile)
+                    .filter((file) -> Lotus.menuFormatOf(file) != null)
+                    .forEach(changedFiles::add);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package io.github.mqzen.menus;
+
+import io.github.mqzen.menus.base.MenuView;
+import org.bukkit.inventory.Inventory;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry of open views, it's safe to be accessed from any thread.
+ * <p>
+ * Views are looked up either by the uuid of their player,
+ * or by their top inventory through a reverse index, the inventories are compared
+ * using {@link Inventory#equals(Object)}, which compares the underlying inventory
+ * rather than the Bukkit wrapper.
+ * </p>
+ */
+final class ViewRegistry {
+
+    private final ConcurrentHashMap<UUID, Binding> byPlayer = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Inventory, MenuView<?>> byInventory = new ConcurrentHashMap<>();
+
+    @Nullable MenuView<?> get(UUID playerUUID) {
+        Binding binding = byPlayer.get(playerUUID);
+        return binding == null ? null : binding.view;
+    }
+
+    @Nullable MenuView<?> get(Inventory inventory) {
+        return byInventory.get(inventory);
+    }
+
+    /**
+     * Binds a view to a player, replacing the view previously bound to that player
+     *
+     * @param playerUUID the uuid of the player
+     * @param view the view
+     * @param inventory the top inventory of the view, null if it's not open yet
+     */
+    void bind(UUID playerUUID, MenuView<?> view, @Nullable Inventory inventory) {
+        Binding old = byPlayer.put(playerUUID, new Binding(view, inventory));
+        if (old != null && old.inventory != null && !old.inventory.equals(inventory)) {
+            byInventory.remove(old.inventory, old.view);
+        }
+        if (inventory != null) {
+            byInventory.put(inventory, view);
+        }
+    }
+
+    /**
+     * Unbinds a view from its player, only if it's still the view bound to that player
+     *
+     * @param playerUUID the uuid of the player
+     * @param view the view
+     * @return whether the view was unbound
+     */
+    boolean unbind(UUID playerUUID, MenuView<?> view) {
+        Binding binding = byPlayer.get(playerUUID);
+        if (binding == null || binding.view != view || !byPlayer.remove(playerUUID, binding))
+            return false;
+
+        if (binding.inventory != null) byInventory.remove(binding.inventory, view);
+        return true;
+    }
+
+    /**
+     * Unbinds whatever view is bound to a player
+     *
+     * @param playerUUID the uuid of the player
+     * @return the view that was bound, or null if there was none
+     */
+    @Nullable MenuView<?> unbind(UUID playerUUID) {
+        Binding binding = byPlayer.remove(playerUUID);
+        if (binding == null) return null;
+
+        if (binding.inventory != null) byInventory.remove(binding.inventory, binding.view);
+        return binding.view;
+    }
+
+    /**
+     * @return a snapshot of the open views, it doesn't reflect later changes
+     */
+    List<MenuView<?>> snapshot() {
+        List<MenuView<?>> views = new ArrayList<>(byPlayer.size());
+        for (Binding binding : byPlayer.values()) {
+            views.add(binding.view);
+        }
+        return Collections.unmodifiableList(views);
+    }
+
+    int size() {
+        return byPlayer.size();
+    }
+
+    private static final class Binding {
+
+        private final MenuView<?> view;
+        private final @Nullable Inventory inventory;
+
+        private Binding(MenuView<?> view, @Nullable Inventory inventory) {
+            this.view = view;
+            this.inventory = inventory;
+        }
+    }
+
+}
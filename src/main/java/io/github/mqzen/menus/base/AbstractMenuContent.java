@@ -0,0 +1,407 @@
+package io.github.mqzen.menus.base;
+
+import io.github.mqzen.menus.misc.Capacity;
+import io.github.mqzen.menus.misc.Slot;
+import io.github.mqzen.menus.misc.Slots;
+import io.github.mqzen.menus.misc.button.Button;
+import io.github.mqzen.menus.misc.button.ButtonCondition;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Base of the {@link Content} implementations, it implements the whole {@link Content} contract
+ * on top of a few slot-indexed primitives ({@link #buttonAt(int)}, {@link #putButton(int, Button)} and {@link #count()})
+ * that every implementation must provide.
+ */
+abstract class AbstractMenuContent implements Content {
+
+	protected final Capacity capacity;
+	private Map<Slot, Button> mapView = null;
+
+	protected AbstractMenuContent(Capacity capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * @param slot the slot number
+	 * @return the button at this slot, or null if the slot is empty or outside the capacity
+	 */
+	@Override
+	public abstract @Nullable Button buttonAt(int slot);
+
+	/**
+	 * Sets the button at a slot as it is (without copying it)
+	 *
+	 * @param slot the slot number
+	 * @param button the button to set, null to empty the slot
+	 * @return the button that was previously at this slot
+	 */
+	abstract @Nullable Button putButton(int slot, @Nullable Button button);
+
+	/**
+	 * @return the number of occupied slots
+	 */
+	abstract int count();
+
+	protected final void checkSlot(int slot) {
+		if (slot < 0 || slot >= capacity.getTotalSize())
+			throw new IllegalArgumentException("Slot " + slot + " is outside of the content's capacity (" + capacity.getTotalSize() + ")");
+	}
+
+	@Override
+	public Capacity capacity() {
+		return capacity;
+	}
+
+	@Override
+	public Optional<Button> getButton(Slot slot) {
+		return Optional.ofNullable(buttonAt(slot.getSlot()));
+	}
+
+	@Override
+	public Optional<Button> getButton(int slot) {
+		return Optional.ofNullable(buttonAt(slot));
+	}
+
+	@Override
+	public Optional<Button> getConditionalButton(ButtonCondition condition) {
+		for (int slot = 0; slot < capacity.getTotalSize(); slot++) {
+			Button button = buttonAt(slot);
+			if (button != null && condition.accepts(Slot.of(slot), button)) {
+				return Optional.of(button);
+			}
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public int nextEmptySlot(int start) {
+		for (int slot = Math.max(start, 0); slot < capacity.getTotalSize(); slot++) {
+			if (buttonAt(slot) == null) return slot;
+		}
+
+		return -1;
+	}
+
+	@Override
+	public Map<Slot, Button> getButtonMap() {
+		if (mapView == null) mapView = new ButtonMapView();
+		return mapView;
+	}
+
+	@Override
+	public void setButton(Slot slot, Button button) {
+		setButton(slot.getSlot(), button);
+	}
+
+	@Override
+	public void setButton(int slot, Button button) {
+		putButton(slot, button == null ? null : button.copy());
+	}
+
+	@Override
+	public void removeButton(Slot slot) {
+		removeButton(slot.getSlot());
+	}
+
+	@Override
+	public void removeButton(int slot) {
+		if (slot >= 0 && slot < capacity.getTotalSize()) putButton(slot, null);
+	}
+
+	@Override
+	public Slots getItemSlots(ItemStack item) {
+		List<Slot> slots = new ArrayList<>();
+		for (int slot = 0; slot < capacity.getTotalSize(); slot++) {
+			Button button = buttonAt(slot);
+			if (button != null && item.isSimilar(button.getItem())) {
+				slots.add(Slot.of(slot));
+			}
+		}
+		return Slots.of(slots.toArray(new Slot[0]));
+	}
+
+	@Override
+	public void fill(Button button) {
+		for (int slot = 0; slot < capacity.getTotalSize(); slot++)
+			setButton(slot, button);
+	}
+
+	@Override
+	public void fillRow(int row, Button button) {
+		fillRow(row, capacity.getColumns()-1, button);
+	}
+
+	@Override
+	public void fillRow(int row, int endColumn, Button button) {
+		for (int column = 0; column <= endColumn; column++)
+			setButton(row, column, button);
+	}
+
+	@Override
+	public void fillRow(final int row, Button button, List<Integer> exceptColumns) {
+		for (int column = 0; column < capacity.getColumns(); column++) {
+			if (exceptColumns.contains(column)) continue;
+			setButton(row, column, button);
+		}
+	}
+
+	@Override
+	public void fillRowRepeatedly(final int row, Button... buttons) {
+		if (buttons.length > capacity.getColumns())
+			throw new IllegalStateException("Couldn't repeat " + buttons.length +
+				" buttons as it's greater than the column slots (" + capacity.getColumns() + ")");
+
+		int column = 0;
+		int buttonIndex = 0;
+
+		while (column < capacity.getColumns()) {
+
+			if (buttonIndex >= buttons.length)
+				//repeating
+				buttonIndex = 0;
+
+			setButton(row, column, buttons[buttonIndex]);
+
+			column++;
+			buttonIndex++;
+		}
+
+	}
+
+	@Override
+	public void fillColumn(final int column, final int endRow, Button button) {
+		for (int row = 0; row <= endRow; row++)
+			setButton(row, column, button);
+	}
+
+	@Override
+	public void fillColumn(final int column, Button button) {
+		fillColumn(column, capacity.getRows()-1, button);
+	}
+
+	@Override
+	public void fillColumn(int column, Button button, List<Integer> exceptRows) {
+		for (int row = 0; row < capacity.getRows(); row++) {
+			if (exceptRows.contains(row)) continue;
+			setButton(row, column, button);
+		}
+	}
+
+	@Override
+	public void fillColumnRepeatedly(final int column, Button... buttons) {
+		if (buttons.length > capacity.getRows())
+			throw new IllegalStateException("Couldn't repeat " + buttons.length + " buttons as it's greater than the row slots (" + capacity.getRows() + ")");
+
+		int row = 0;
+		int buttonIndex = 0;
+		while (row < capacity.getRows()) {
+
+			if (buttonIndex >= buttons.length)
+				//repeating
+				buttonIndex = 0;
+
+			setButton(row, column, buttons[buttonIndex]);
+
+			row++;
+			buttonIndex++;
+		}
+	}
+
+	@Override
+	public void fillBorder(Button button) {
+		fillRow(0, button);
+		fillColumn(0, button);
+		fillRow(capacity.getRows() - 1, button);
+		fillColumn(capacity.getColumns() - 1, button);
+	}
+
+	@Override
+	public void fillRectangle(Slot pos1, Slot pos2, Slot pos3, Slot pos4, Button button) {
+		fillRow(pos1.getRow(), pos2.getColumn(), button);
+		fillColumn(pos1.getColumn(), pos3.getRow(), button);
+
+		fillRow(pos3.getRow(), pos4.getColumn(), button);
+		fillColumn(pos2.getColumn(), pos4.getRow(), button);
+	}
+
+	@Override
+	public void fillBorderRepeatedly(Button... buttons) {
+		fillRowRepeatedly(0, buttons);
+		fillColumnRepeatedly(0, buttons);
+		fillRowRepeatedly(capacity.getRows() - 1, buttons);
+		fillColumnRepeatedly(capacity.getColumns() - 1, buttons);
+	}
+
+	@Override
+	public void forEachItem(BiConsumer<Slot, Button> consumer) {
+		for (int slot = 0; slot < capacity.getTotalSize(); slot++) {
+			Button button = buttonAt(slot);
+			if (button != null) consumer.accept(Slot.of(slot), button);
+		}
+	}
+
+	@Override
+	public @NotNull Collection<? extends Button> getAllButtons() {
+		return getButtonMap().values();
+	}
+
+	@Override
+	public Content mergeWith(Content other) {
+		other.forEachItem((slot, button) -> putButton(slot.getSlot(), button));
+		return this;
+	}
+
+	@Override
+	public void updateButton(Slot slot, Consumer<Button> buttonUpdate) {
+		Button button = buttonAt(slot.getSlot());
+		if (button != null) buttonUpdate.accept(button);
+	}
+
+	@Override
+	public int size() {
+		return count();
+	}
+
+	@Override
+	public void trim(int maxButtonsCount) {
+		int removed = 0;
+		for (int slot = capacity.getTotalSize() - 1; slot >= 0 && removed < maxButtonsCount; slot--) {
+			if (buttonAt(slot) == null) continue;
+			putButton(slot, null);
+			removed++;
+		}
+	}
+
+	@Override
+	public Stream<Map.Entry<Slot, Button>> stream() {
+		return getButtonMap().entrySet().stream();
+	}
+
+	/**
+	 * A live {@link Map} view over the slots of the content, writes through it
+	 * are directly applied on the content (without copying the buttons).
+	 */
+	private final class ButtonMapView extends AbstractMap<Slot, Button> {
+
+		private final Set<Map.Entry<Slot, Button>> entrySet = new AbstractSet<Map.Entry<Slot, Button>>() {
+			@Override
+			public @NotNull Iterator<Map.Entry<Slot, Button>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return count();
+			}
+		};
+
+		@Override
+		public @NotNull Set<Map.Entry<Slot, Button>> entrySet() {
+			return entrySet;
+		}
+
+		@Override
+		public int size() {
+			return count();
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return key instanceof Slot && buttonAt(((Slot) key).getSlot()) != null;
+		}
+
+		@Override
+		public Button get(Object key) {
+			return key instanceof Slot ? buttonAt(((Slot) key).getSlot()) : null;
+		}
+
+		@Override
+		public Button put(Slot key, Button value) {
+			return putButton(key.getSlot(), value);
+		}
+
+		@Override
+		public Button remove(Object key) {
+			if (!(key instanceof Slot)) return null;
+			int slot = ((Slot) key).getSlot();
+			return slot >= 0 && slot < capacity.getTotalSize() ? putButton(slot, null) : null;
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Map.Entry<Slot, Button>> {
+
+		private int next = advance(0);
+		private int last = -1;
+
+		private int advance(int from) {
+			for (int slot = from; slot < capacity.getTotalSize(); slot++) {
+				if (buttonAt(slot) != null) return slot;
+			}
+			return capacity.getTotalSize();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < capacity.getTotalSize();
+		}
+
+		@Override
+		public Map.Entry<Slot, Button> next() {
+			if (!hasNext()) throw new NoSuchElementException();
+			last = next;
+			next = advance(next + 1);
+			return new SlotEntry(last);
+		}
+
+		@Override
+		public void remove() {
+			if (last == -1) throw new IllegalStateException();
+			putButton(last, null);
+			last = -1;
+		}
+	}
+
+	private final class SlotEntry implements Map.Entry<Slot, Button> {
+
+		private final int slot;
+
+		private SlotEntry(int slot) {
+			this.slot = slot;
+		}
+
+		@Override
+		public Slot getKey() {
+			return Slot.of(slot);
+		}
+
+		@Override
+		public Button getValue() {
+			return buttonAt(slot);
+		}
+
+		@Override
+		public Button setValue(Button value) {
+			return putButton(slot, value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Map.Entry)) return false;
+			Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+			return getKey().equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return getKey().hashCode() ^ Objects.hashCode(getValue());
+		}
+	}
+
+}
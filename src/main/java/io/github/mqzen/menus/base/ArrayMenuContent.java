@@ -0,0 +1,85 @@
+package io.github.mqzen.menus.base;
+
+import io.github.mqzen.menus.misc.Capacity;
+import io.github.mqzen.menus.misc.Slot;
+import io.github.mqzen.menus.misc.button.Button;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The default {@link Content} implementation, it stores the buttons in a plain array
+ * indexed by {@link Slot#getSlot()}, so that looking up, setting and filling
+ * buttons are just array loads/stores.
+ * <p>
+ * The map returned by {@link #getButtonMap()} is a live view of the array.
+ * The occupied slots are tracked in a bitmap as well (a bit per slot, one {@code long} per 64 slots),
+ * so finding the next empty slot skips 64 occupied slots at once.
+ * </p>
+ */
+final class ArrayMenuContent extends AbstractMenuContent {
+
+	private final Button[] buttons;
+	private final long[] occupied;
+	private int count = 0;
+
+	ArrayMenuContent(Capacity capacity) {
+		super(capacity);
+		this.buttons = new Button[capacity.getTotalSize()];
+		this.occupied = new long[(buttons.length + 63) >>> 6];
+	}
+
+	@Override
+	public @Nullable Button buttonAt(int slot) {
+		return slot >= 0 && slot < buttons.length ? buttons[slot] : null;
+	}
+
+	@Override
+	@Nullable Button putButton(int slot, @Nullable Button button) {
+		checkSlot(slot);
+		Button old = buttons[slot];
+		buttons[slot] = button;
+		if (old == null && button != null) {
+			count++;
+			occupied[slot >>> 6] |= 1L << slot;
+		}
+		else if (old != null && button == null) {
+			count--;
+			occupied[slot >>> 6] &= ~(1L << slot);
+		}
+		return old;
+	}
+
+	@Override
+	int count() {
+		return count;
+	}
+
+	@Override
+	public int nextEmptySlot(int start) {
+		int from = Math.max(start, 0);
+		if (from >= buttons.length) return -1;
+
+		int word = from >>> 6;
+		//the empty slots of the word, from the start slot onwards (shifts are modulo 64)
+		long empty = ~occupied[word] & (-1L << from);
+		while (empty == 0L) {
+			if (++word == occupied.length) return -1;
+			empty = ~occupied[word];
+		}
+		int slot = (word << 6) + Long.numberOfTrailingZeros(empty);
+		//the bits past the capacity in the last word are never occupied
+		return slot < buttons.length ? slot : -1;
+	}
+
+	@Override
+	public Content mergeWith(Content other) {
+		if (other instanceof ArrayMenuContent) {
+			Button[] otherButtons = ((ArrayMenuContent) other).buttons;
+			for (int slot = 0; slot < otherButtons.length; slot++) {
+				if (otherButtons[slot] != null) putButton(slot, otherButtons[slot]);
+			}
+			return this;
+		}
+		return super.mergeWith(other);
+	}
+
+}
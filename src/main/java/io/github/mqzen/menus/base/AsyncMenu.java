@@ -0,0 +1,80 @@
+package io.github.mqzen.menus.base;
+
+import io.github.mqzen.menus.misc.Capacity;
+import io.github.mqzen.menus.misc.DataRegistry;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A menu whose content is loaded off the main thread (e.g: from a database),
+ * so opening it never blocks the server tick.
+ * <p>
+ * The view opens immediately with {@link #getContent(DataRegistry, Player, Capacity)}
+ * as a loading layout (empty by default), then once {@link #loadContent(DataRegistry, Player, Capacity)}
+ * completes, the loaded content replaces the loading layout on the main thread.
+ * If the view is closed before the content is loaded, the load is cancelled
+ * and its result is discarded.
+ * Both the loading layout and the loaded content are laid on top of the static layer
+ * of the menu if it has one (see {@link #getStaticLayer(Capacity)}).
+ * </p>
+ * <p>
+ * The title and capacity are still resolved on the main thread, as the inventory
+ * is created with them upfront.
+ * </p>
+ */
+public interface AsyncMenu extends Menu {
+
+	/**
+	 * Loads the content of the menu, it's called off the main thread
+	 * so it must not touch the world or the Bukkit API except for thread-safe parts of it.
+	 *
+	 * @param extraData the data container for this menu for extra data
+	 * @param opener    the player opening this menu
+	 * @param capacity  the capacity of the open view
+	 * @return the loaded content of the menu
+	 */
+	@NotNull Content loadContent(DataRegistry extraData, Player opener, Capacity capacity);
+
+	/**
+	 * Starts loading the content of the menu, by default {@link #loadContent(DataRegistry, Player, Capacity)}
+	 * is called on the executor of Lotus.
+	 * Override it if the content comes from an API that is asynchronous already.
+	 *
+	 * @param extraData the data container for this menu for extra data
+	 * @param opener    the player opening this menu
+	 * @param capacity  the capacity of the open view
+	 * @param executor  the executor of Lotus for asynchronous work
+	 * @return the future of the loaded content
+	 */
+	default CompletableFuture<Content> loadContentAsync(DataRegistry extraData, Player opener,
+	                                                    Capacity capacity, Executor executor) {
+		return CompletableFuture.supplyAsync(() -> loadContent(extraData, opener, capacity), executor);
+	}
+
+	/**
+	 * The loading layout, shown until the content is loaded
+	 *
+	 * @param extraData the data container for this menu for extra data
+	 * @param opener    the player opening this menu
+	 * @param capacity  the capacity set by the user above
+	 * @return the loading layout, empty by default
+	 */
+	@Override
+	default @NotNull Content getContent(DataRegistry extraData, Player opener, Capacity capacity) {
+		return Content.empty(capacity);
+	}
+
+	/**
+	 * What's going to happen when loading the content has failed, it's called on the main thread
+	 * while the view is still open, the loading layout stays otherwise.
+	 *
+	 * @param playerMenuView the open view of this menu
+	 * @param error          the error loading the content
+	 */
+	default void onLoadFailed(MenuView<?> playerMenuView, Throwable error) {
+	}
+
+}
@@ -2,15 +2,19 @@ package io.github.mqzen.menus.base;
 
 import io.github.mqzen.menus.Lotus;
 import io.github.mqzen.menus.base.animation.AnimatedButton;
-import io.github.mqzen.menus.base.animation.ButtonAnimationTask;
+import io.github.mqzen.menus.base.animation.AnimationEngine;
+import io.github.mqzen.menus.metrics.LotusMetrics;
+import io.github.mqzen.menus.metrics.OpenPhase;
 import io.github.mqzen.menus.misc.Capacity;
 import io.github.mqzen.menus.misc.DataRegistry;
 import io.github.mqzen.menus.misc.Slot;
+import io.github.mqzen.menus.misc.SlotMask;
 import io.github.mqzen.menus.misc.ViewData;
 import io.github.mqzen.menus.misc.button.Button;
 import io.github.mqzen.menus.misc.button.ButtonCondition;
 import io.github.mqzen.menus.misc.button.ButtonUpdater;
 import io.github.mqzen.menus.titles.MenuTitle;
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
@@ -20,10 +24,12 @@ import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -38,9 +44,10 @@ public class BaseMenuView<M extends Menu> implements MenuView<M> {
 	/**
 	 * Holds the menu instance associated with this view.
 	 * It is used to create the menu and fetch its data.
-	 * This field is immutable and is initialized via constructor.
+	 * This field is initialized via constructor, and only swapped for a new version
+	 * of the same menu when it's reloaded (see {@link #patchMenu(Menu)}).
 	 */
-	protected final M menu;
+	protected M menu;
 	/**
 	 * A protected final instance of DataRegistry used for storing and retrieving supplementary data
 	 * relevant to the menu view within the BaseMenuView class.
@@ -77,7 +84,24 @@ public class BaseMenuView<M extends Menu> implements MenuView<M> {
 	protected Player currentOpener = null;
 
 	
-	protected final Map<AnimatedButton, ButtonAnimationTask> animationTasks = new HashMap<>();
+	/**
+	 * The animations of this view scheduled in the {@link AnimationEngine} while it's open,
+	 * null if the view is not open.
+	 */
+	protected AnimationEngine.ViewAnimations animations = null;
+	
+	/**
+	 * The slots changed since the last flush, created with the capacity of the view on initializing.
+	 * @see #markDirty(Slot)
+	 */
+	protected volatile SlotMask dirtySlots = null;
+	private final AtomicBoolean flushQueued = new AtomicBoolean(false);
+	
+	/**
+	 * The content of an {@link AsyncMenu} being loaded for this view,
+	 * null if there's none, it's only accessed on the main thread.
+	 */
+	protected CompletableFuture<Content> pendingContent = null;
 	
 	/**
 	 * Constructs a BaseMenuView with the specified API instance and menu, and initializes it with an empty DataRegistry.
@@ -180,8 +204,25 @@ public class BaseMenuView<M extends Menu> implements MenuView<M> {
 			return;
 		}
 		
-		this.getContent().getButton(slot)
-			.ifPresent((button -> button.executeOnClick(this, event)));
+		//no Optional or lambda here, this runs for every click on the view
+		long start = System.nanoTime();
+		Button button = getContent().buttonAt(slot);
+		if (button != null)
+			button.executeOnClick(this, event);
+		api.getMetrics().recordClick(button == null ? null : button.getAction(), System.nanoTime() - start);
+	}
+	
+	/**
+	 * The current live content of the view
+	 *
+	 * @return the content of the view
+	 * @throws NullPointerException if the view hasn't been initialized yet
+	 */
+	@Override
+	public Content getContent() {
+		ViewData data = currentOpenedData;
+		if (data == null) throw new NullPointerException("Menu view hasn't been initialized yet");
+		return data.content();
 	}
 	
 	/**
@@ -194,11 +235,95 @@ public class BaseMenuView<M extends Menu> implements MenuView<M> {
 	@Override
 	public void initialize(M menu, Player player) {
 		
+		LotusMetrics metrics = api.getMetrics();
+		long start = System.nanoTime();
 		MenuTitle title = menu.getTitle(dataRegistry, player);
+		long titleEnd = System.nanoTime();
+		metrics.recordOpenPhase(OpenPhase.TITLE, titleEnd - start);
+		
 		Capacity capacity = menu.getCapacity(dataRegistry, player);
-		Content content = menu.getContent(dataRegistry, player, capacity);
+		long capacityEnd = System.nanoTime();
+		metrics.recordOpenPhase(OpenPhase.CAPACITY, capacityEnd - titleEnd);
+		
+		Content content = createContent(menu, player, capacity);
+		metrics.recordOpenPhase(OpenPhase.CONTENT, System.nanoTime() - capacityEnd);
 		
 		currentOpenedData = new ViewData(title, capacity, content);
+		dirtySlots = new SlotMask(capacity.getTotalSize());
+	}
+	
+	private Content createContent(M menu, Player player, Capacity capacity) {
+		//static menus share one immutable template, the view only stores the slots it modifies
+		Content template = menu.isFullyStatic() ? api.getMenuTemplate(menu) : null;
+		return template != null && template.capacity().getTotalSize() == capacity.getTotalSize()
+			? Content.overlay(template)
+			: withStaticLayer(menu.getContent(dataRegistry, player, capacity), capacity);
+	}
+	
+	/**
+	 * Swaps the menu of this view for a new version of it (e.g: after its file was reloaded),
+	 * the open inventory is patched in place, only the slots whose items differ are rewritten.
+	 * <p>
+	 * The title and the capacity of an open inventory can't be changed,
+	 * so if they differ nothing is patched, and the view has to be reopened for the new menu instead.
+	 * It's meant to be called on the main thread.
+	 * </p>
+	 *
+	 * @param newMenu the new version of the menu
+	 * @return whether the view was patched, false if the title or the capacity of the menu
+	 * differ from those of the open inventory
+	 */
+	public boolean patchMenu(M newMenu) {
+		if (!isOpen()) {
+			menu = newMenu;
+			return true;
+		}
+		
+		ViewData oldData = currentOpenedData;
+		MenuTitle title = newMenu.getTitle(dataRegistry, currentOpener);
+		Capacity capacity = newMenu.getCapacity(dataRegistry, currentOpener);
+		if (capacity.getTotalSize() != oldData.capacity().getTotalSize()
+			|| !Objects.equals(title.asString(), oldData.title().asString()))
+			return false;
+		
+		menu = newMenu;
+		cancelPendingContent();
+		currentOpenedData = new ViewData(title, capacity, createContent(newMenu, currentOpener, capacity));
+		scheduleAnimations();
+		
+		SlotMask mask = dirtySlots;
+		if (mask != null) {
+			Content oldContent = oldData.content(), newContent = currentOpenedData.content();
+			for (int slot = 0; slot < capacity.getTotalSize(); slot++) {
+				Button oldButton = oldContent.buttonAt(slot), newButton = newContent.buttonAt(slot);
+				if (!Objects.equals(oldButton == null ? null : oldButton.getItem(), newButton == null ? null : newButton.getItem()))
+					mask.mark(slot);
+			}
+			flushDirtySlots();
+		}
+		
+		if (newMenu instanceof AsyncMenu)
+			loadContent((AsyncMenu) newMenu, currentOpener);
+		return true;
+	}
+	
+	/**
+	 * Lays the dynamic content of the menu on top of its static layer,
+	 * which is read through the cached template of the menu when it's registered.
+	 *
+	 * @see Menu#getStaticLayer(Capacity)
+	 */
+	private Content withStaticLayer(Content dynamicContent, Capacity capacity) {
+		if (menu.isFullyStatic()) return dynamicContent;
+		
+		Content template = api.getMenuTemplate(menu);
+		Content staticLayer = template != null && template.capacity().getTotalSize() == capacity.getTotalSize()
+			? template
+			: menu.getStaticLayer(capacity);
+		if (staticLayer == null) return dynamicContent;
+		//a template is shared, so it's read through rather than merged into
+		if (staticLayer instanceof TemplateContent) staticLayer = Content.overlay(staticLayer);
+		return staticLayer.mergeWith(dynamicContent);
 	}
 	
 	/**
@@ -221,25 +346,85 @@ public class BaseMenuView<M extends Menu> implements MenuView<M> {
 	 */
 	@Override
 	public void openView(ViewOpener viewOpener, Player player) {
+		long start = System.nanoTime();
 		currentOpener = player;
 		initialize(menu, player);
 		currentOpenInventory = viewOpener.openMenu(api, player, this, currentOpenedData);
-		//after we open, we start all animation tasks
-		for(Map.Entry<Slot, Button> entry : currentOpenedData.content().getButtonMap().entrySet()) {
-			Slot slot = entry.getKey();
-			Button button = entry.getValue();
-			
-			if(!(button instanceof AnimatedButton)) continue;
-			AnimatedButton animatedButton = (AnimatedButton) button;
-			ButtonAnimationTask task = ButtonAnimationTask.of(
-				slot,
-				animatedButton,
-				this
-			);
-			animationTasks.put(animatedButton, task);
-			task.start(api.getPlugin());
+		//after we open, we schedule all animated buttons
+		scheduleAnimations();
+		if (menu instanceof AsyncMenu)
+			loadContent((AsyncMenu) menu, player);
+		api.getMetrics().recordOpen(menu.getName(), System.nanoTime() - start);
+	}
+	
+	/**
+	 * Schedules the animated buttons of the open content, replacing the animations scheduled before.
+	 */
+	protected void scheduleAnimations() {
+		if (animations != null) animations.cancel();
+		AnimationEngine.ViewAnimations viewAnimations = api.getAnimationEngine().register(this);
+		Content content = currentOpenedData.content();
+		for (int slot = 0; slot < content.capacity().getTotalSize(); slot++) {
+			Button button = content.buttonAt(slot);
+			if (button instanceof AnimatedButton)
+				viewAnimations.schedule(Slot.of(slot), (AnimatedButton) button);
+		}
+		animations = viewAnimations;
+	}
+	
+	private void loadContent(AsyncMenu asyncMenu, Player player) {
+		cancelPendingContent();
+		CompletableFuture<Content> future;
+		try {
+			future = asyncMenu.loadContentAsync(dataRegistry, player, currentOpenedData.capacity(), api.getAsyncExecutor());
+		} catch (Throwable ex) {
+			asyncMenu.onLoadFailed(this, ex);
+			return;
 		}
+		pendingContent = future;
 		
+		future.whenComplete((content, error) -> {
+			//cancelled because the view was closed or reopened
+			if (future.isCancelled() || !api.getPlugin().isEnabled()) return;
+			Bukkit.getScheduler().runTask(api.getPlugin(), () -> {
+				//the view may have been closed or reopened meanwhile
+				if (pendingContent != future) return;
+				pendingContent = null;
+				if (!isOpen()) return;
+				
+				if (error != null || content == null) {
+					asyncMenu.onLoadFailed(this, error != null ? error : new NullPointerException("Loaded content is null"));
+					return;
+				}
+				applyLoadedContent(content);
+			});
+		});
+	}
+	
+	/**
+	 * Replaces the loading layout with the loaded content,
+	 * every slot is rewritten in a single flush.
+	 */
+	private void applyLoadedContent(Content content) {
+		Capacity capacity = currentOpenedData.capacity();
+		currentOpenedData = new ViewData(currentOpenedData.title(), capacity, withStaticLayer(content, capacity));
+		scheduleAnimations();
+		
+		SlotMask mask = dirtySlots;
+		if (mask == null) return;
+		int size = currentOpenedData.capacity().getTotalSize();
+		for (int slot = 0; slot < size; slot++) {
+			mask.mark(slot);
+		}
+		flushDirtySlots();
+	}
+	
+	private void cancelPendingContent() {
+		CompletableFuture<Content> future = pendingContent;
+		if (future == null) return;
+		pendingContent = null;
+		//only drops the result, a load that has already started runs to its end
+		future.cancel(false);
 	}
 	
 	/**
@@ -250,18 +435,20 @@ public class BaseMenuView<M extends Menu> implements MenuView<M> {
 	@Override
 	public void onClose(InventoryCloseEvent event) {
 		MenuView.super.onClose(event);
-		for(Map.Entry<Slot, Button> entry : currentOpenedData.content().getButtonMap().entrySet()) {
-			Button button = entry.getValue();
-			
-			if(!(button instanceof AnimatedButton)) continue;
-			AnimatedButton animatedButton = (AnimatedButton) button;
-			ButtonAnimationTask task = animationTasks.get(animatedButton);
-			if(task != null) {
-				task.cancel();
-				animationTasks.remove(animatedButton);
-			}
+		release();
+	}
+	
+	/**
+	 * Stops what the view runs while it's open (animations, loading its content and pending flushes),
+	 * e.g: when it's closed or when another view has taken its inventory over.
+	 */
+	protected void release() {
+		if (animations != null) {
+			animations.cancel();
+			animations = null;
 		}
-		animationTasks.clear();
+		cancelPendingContent();
+		if (dirtySlots != null) dirtySlots.clear();
 	}
 	
 	/**
@@ -291,7 +478,7 @@ public class BaseMenuView<M extends Menu> implements MenuView<M> {
 		if (!isOpen())
 			return;
 		getContent().getButton(slot).ifPresent((oldButton) -> {
-			Button toReplace = overwrite ? Button.empty(newItem) : oldButton.setItem(newItem);
+			Button toReplace = overwrite ? Button.empty(newItem) : oldButton.copy().setItem(newItem);
 			getContent().setButton(slot, toReplace);
 		});
 		
@@ -308,10 +495,7 @@ public class BaseMenuView<M extends Menu> implements MenuView<M> {
 		if (!isOpen())
 			return;
 		getContent().setButton(slot, newButton);
-		if(newButton != null) {
-			this.currentOpenInventory.setItem(slot.getSlot(), newButton.getItem());
-			this.currentOpener.updateInventory();
-		}
+		markDirty(slot);
 	}
 	
 	/**
@@ -322,10 +506,9 @@ public class BaseMenuView<M extends Menu> implements MenuView<M> {
 	 */
 	@Override
 	public void updateButton(Slot slot, ButtonUpdater buttonUpdater) {
-		Button butt = getContent().getButton(slot).orElse(null);
-		if(butt == null) return;
-		buttonUpdater.update(butt);
-		updateButtonAtWith(slot, butt);
+		//the content decides whether the button is updated in place or copied first (when it's shared with a template)
+		getContent().updateButton(slot, buttonUpdater::update);
+		updateButtonAt(slot);
 	}
 	
 	/**
@@ -345,17 +528,53 @@ public class BaseMenuView<M extends Menu> implements MenuView<M> {
 	}
 	
 	private void updateButtonAt(Slot slot) {
-		getContent().getButton(slot).ifPresent((updatedButton)-> {
-			currentOpenInventory.setItem(slot.getSlot(), updatedButton.getItem());
-			currentOpener.updateInventory();
-		});
+		if (getContent().buttonAt(slot.getSlot()) != null)
+			markDirty(slot);
+	}
+	
+	/**
+	 * Marks a slot as changed, its item is written to the open inventory
+	 * on the next tick along with the other changed slots of this view,
+	 * followed by a single inventory update for the player.
+	 *
+	 * @param slot the slot that has changed
+	 */
+	@Override
+	public void markDirty(Slot slot) {
+		SlotMask mask = dirtySlots;
+		if (mask == null || !mask.mark(slot.getSlot())) return;
+		if (flushQueued.compareAndSet(false, true)) {
+			api.queueFlush(this);
+		}
 	}
 	
-	private void updateButtonAtWith(Slot slot, Button button) {
-		Button copy = button.copy();
-		getContent().setButton(slot, copy);
-		currentOpenInventory.setItem(slot.getSlot(), copy.getItem());
-		currentOpener.updateInventory();
+	/**
+	 * Writes the changed slots to the open inventory,
+	 * it's meant to be called on the main thread by {@link Lotus}.
+	 *
+	 * @return the number of slots written
+	 */
+	@Override
+	public int flushDirtySlots() {
+		//un-queuing before draining, so a slot marked during the flush queues the view again
+		flushQueued.set(false);
+		SlotMask mask = dirtySlots;
+		if (mask == null) return 0;
+		if (!isOpen()) {
+			mask.clear();
+			return 0;
+		}
+		
+		Content content = getContent();
+		int written = mask.drain((slot) -> {
+			Button button = content.buttonAt(slot);
+			currentOpenInventory.setItem(slot, button == null ? null : button.getItem());
+		});
+		if (written > 0) {
+			currentOpener.updateInventory();
+			api.getMetrics().recordFlush(written);
+		}
+		return written;
 	}
 	
 	/**
@@ -384,8 +603,7 @@ public class BaseMenuView<M extends Menu> implements MenuView<M> {
 	@Override
 	public void refresh() {
 		initialize(menu, currentOpener);
-		currentOpenedData.content().forEachItem((slot, button) ->
-			currentOpenInventory.setItem(slot.getSlot(), button.getItem()));
+		currentOpenInventory.setContents(currentOpenedData.content().toItemArray());
 	}
 
 }
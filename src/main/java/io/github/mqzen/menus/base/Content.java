@@ -11,6 +11,7 @@ import io.github.mqzen.menus.misc.button.ButtonCondition;
 import io.github.mqzen.menus.misc.button.actions.ButtonClickAction;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.List;
@@ -27,7 +28,8 @@ import java.util.stream.Stream;
 public interface Content {
 	
 	/**
-	 * Creates a new Builder instance with the given capacity.
+	 * Creates a new Builder instance with the given capacity,
+	 * the content built is backed by an array indexed by the slot numbers.
 	 *
 	 * @param capacity the capacity of the content to be built
 	 * @return a new Builder instance configured with the provided capacity
@@ -41,7 +43,34 @@ public interface Content {
 	static Content empty(Capacity capacity) {
 		return Content.builder(capacity).build();
 	}
-	
+
+	/**
+	 * Creates an immutable snapshot of the given content, every button is copied once
+	 * so that later changes on the source content don't affect the template.
+	 * <p>
+	 * A template is meant to be shared between views, use {@link #overlay(Content)}
+	 * to get a modifiable content of it.
+	 * </p>
+	 *
+	 * @param content the content to snapshot
+	 * @return an immutable content template
+	 */
+	static Content template(Content content) {
+		return content instanceof TemplateContent ? content : new TemplateContent(content);
+	}
+
+	/**
+	 * Creates a copy-on-write content on top of a template, the template is never modified,
+	 * only the slots that were set/removed/updated are stored by the returned content.
+	 *
+	 * @param template the template to read through, if it's not a template already
+	 *                 then a snapshot of it is taken using {@link #template(Content)}
+	 * @return a modifiable content reading through the template
+	 */
+	static Content overlay(Content template) {
+		return new OverlayContent((TemplateContent) template(template));
+	}
+
 	/**
 	 * Retrieves the capacity of the content.
 	 *
@@ -55,6 +84,34 @@ public interface Content {
 	 * @param slot the Slot for which*/
 	Optional<Button> getButton(Slot slot);
 	
+	/**
+	 * Retrieves the button at a slot without wrapping it,
+	 * it's meant for hot paths such as dispatching clicks.
+	 * The button may be shared with other contents (e.g: a {@link #template(Content) template}),
+	 * so it must be treated as read-only, use {@link #updateButton(Slot, java.util.function.Consumer)} to modify it.
+	 *
+	 * @param slot the slot number
+	 * @return the button at the slot, or null if the slot is empty or outside the capacity
+	 */
+	default @Nullable Button buttonAt(int slot) {
+		return getButton(slot).orElse(null);
+	}
+	
+	/**
+	 * The items of every slot, indexed by slot number,
+	 * e.g: to write the whole content into an inventory at once.
+	 *
+	 * @return a new array of the items, sized to the capacity of the content
+	 */
+	default ItemStack[] toItemArray() {
+		ItemStack[] items = new ItemStack[capacity().getTotalSize()];
+		for (int slot = 0; slot < items.length; slot++) {
+			Button button = buttonAt(slot);
+			if (button != null) items[slot] = button.getItem();
+		}
+		return items;
+	}
+	
 	/**
 	 * Retrieves an {@link Optional} containing a {@link Button} that satisfies the given {@link ButtonCondition}.
 	 * If no such button exists, an empty {@link Optional} is returned.
@@ -91,15 +148,18 @@ public interface Content {
 	int nextEmptySlot(int start);
 	
 	/**
-	 * Adds one or more buttons to the next available empty slots in the inventory content.
+	 * Adds one or more buttons to the next available empty slots in the inventory content,
+	 * in a single pass over the slots, as the search for each button continues from the slot of the previous one.
 	 *
 	 * @param buttons the buttons to be added
 	 */
 	default void addButton(Button... buttons) {
+		int nextSlot = 0;
 		for (Button button : buttons) {
-			int nextSlot = nextEmptySlot(0);
+			nextSlot = nextEmptySlot(nextSlot);
 			if (nextSlot == -1) break;
 			setButton(nextSlot, button);
+			nextSlot++;
 		}
 	}
 
@@ -319,12 +379,12 @@ public interface Content {
 
 
 	class Builder {
-		private final MenuContentImpl impl;
+		private final Content impl;
 		private final Capacity capacity;
 		
 		Builder(Capacity capacity) {
 			this.capacity = capacity;
-			impl = new MenuContentImpl(capacity);
+			impl = new ArrayMenuContent(capacity);
 		}
 		
 		/**
@@ -3,10 +3,12 @@ package io.github.mqzen.menus.base;
 
 import io.github.mqzen.menus.misc.Capacity;
 import io.github.mqzen.menus.misc.DataRegistry;
+import io.github.mqzen.menus.ratelimit.ClickLimit;
 import io.github.mqzen.menus.titles.MenuTitle;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * The Menu interface provides the structure for creating custom menus
@@ -44,7 +46,9 @@ public interface Menu {
 	@NotNull Capacity getCapacity(DataRegistry extraData, Player opener);
 	
 	/**
-	 * Creates the content for the menu
+	 * Creates the content for the menu,
+	 * if the menu has a static layer (see {@link #getStaticLayer(Capacity)}),
+	 * it only needs to contain the dynamic slots, which are applied on top of the static layer.
 	 *
 	 * @param extraData the data container for this menu for extra data
 	 * @param opener   the player opening this menu
@@ -53,6 +57,64 @@ public interface Menu {
 	 */
 	@NotNull Content getContent(DataRegistry extraData, Player opener, Capacity capacity);
 	
+	/**
+	 * The static layer of this menu, the part of its content that is the same for every viewer
+	 * (e.g: borders, fillers and navigation buttons).
+	 * <p>
+	 * The layer is built on every open, unless the menu {@link #hasStaticLayer() caches it},
+	 * or it's a {@link Content#template(Content)} which is then read through without being modified.
+	 * It's ignored if the menu {@link #isFullyStatic() is fully static}.
+	 * </p>
+	 *
+	 * @param capacity the capacity of the menu
+	 * @return the static layer, null if the menu has none (by default)
+	 */
+	default @Nullable Content getStaticLayer(Capacity capacity) {
+		return null;
+	}
+	
+	/**
+	 * Whether the {@link #getStaticLayer(Capacity) static layer} of this menu is cached,
+	 * if true, then when this menu is registered, its static layer is built once
+	 * (with the capacity for an empty {@link DataRegistry} and a null opener) as an immutable template,
+	 * so opening a view only builds the dynamic slots from {@link #getContent(DataRegistry, Player, Capacity)}
+	 * and lays them on top of the template.
+	 * The cached layer is rebuilt by {@link io.github.mqzen.menus.Lotus#invalidateTemplate(String)},
+	 * and it's only used by the views whose capacity is that of the template.
+	 *
+	 * @return true if the static layer should be cached, false by default
+	 */
+	default boolean hasStaticLayer() {
+		return false;
+	}
+	
+	/**
+	 * Whether the whole content of this menu is the same for every viewer,
+	 * if true, then when this menu is registered, its content is created once
+	 * (with an empty {@link DataRegistry} and a null opener) as an immutable template,
+	 * and every view opened from the registered menu reads through that template,
+	 * storing only the slots it modifies.
+	 * It takes precedence over the {@link #getStaticLayer(Capacity) static layer}, which is then never built.
+	 *
+	 * @return true if the content doesn't depend on the opener or the extra data, false by default
+	 * @see Content#template(Content)
+	 */
+	default boolean isFullyStatic() {
+		return false;
+	}
+	
+	/**
+	 * The limit of how fast a player may click in this menu, it overrides the default limit
+	 * of the {@link io.github.mqzen.menus.ratelimit.ClickRateLimiter}, the clicks beyond it are cancelled
+	 * before {@link #onPreClick(MenuView, InventoryClickEvent)}.
+	 * Equal limits share the same buckets, so a new instance may be returned every time.
+	 *
+	 * @return the click limit of this menu, null to use the default limit (by default)
+	 */
+	default @Nullable ClickLimit getClickLimit() {
+		return null;
+	}
+	
 	/**
 	 * What's going to happen before the click
 	 * @param playerMenuView the menu view that the player has clicked on.
@@ -349,7 +349,7 @@ public interface MenuView<M extends Menu> extends InventoryHolder {
 	default void replaceClickedItemStack(InventoryClickEvent event, @Nullable ItemStack newItemStack, boolean overwrite) {
 		int slot = event.getSlot();
 		getContent().getButton(slot).ifPresent((oldButton) -> {
-			Button toReplace = overwrite ? Button.empty(newItemStack) : oldButton.setItem(newItemStack);
+			Button toReplace = overwrite ? Button.empty(newItemStack) : oldButton.copy().setItem(newItemStack);
 			replaceButton(slot, toReplace);
 		});
 	}
@@ -417,4 +417,33 @@ public interface MenuView<M extends Menu> extends InventoryHolder {
 	 * reinitializing internal variables to their default states.
 	 */
 	void refresh();
+	
+	/**
+	 * Marks a slot as changed, so that its current item is written to
+	 * the open inventory during the next flush, rather than right away.
+	 * <p>
+	 * The default implementation writes the item and updates the player's inventory immediately.
+	 * </p>
+	 *
+	 * @param slot the slot that has changed
+	 * @see #flushDirtySlots()
+	 */
+	default void markDirty(Slot slot) {
+		Inventory inventory = getInventory();
+		if (inventory == null || !isOpen()) return;
+		Button button = getContent().buttonAt(slot.getSlot());
+		inventory.setItem(slot.getSlot(), button == null ? null : button.getItem());
+		getPlayer().ifPresent(Player::updateInventory);
+	}
+	
+	/**
+	 * Writes the items of the slots marked by {@link #markDirty(Slot)} to the open inventory,
+	 * then updates the player's inventory once if any slot was written.
+	 * It's called by {@link Lotus} at most once per tick for each view having dirty slots.
+	 *
+	 * @return the number of slots written
+	 */
+	default int flushDirtySlots() {
+		return 0;
+	}
 }
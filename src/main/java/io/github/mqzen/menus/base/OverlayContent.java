@@ -0,0 +1,144 @@
+package io.github.mqzen.menus.base;
+
+import io.github.mqzen.menus.misc.Slot;
+import io.github.mqzen.menus.misc.button.Button;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A copy-on-write {@link Content} on top of a shared {@link TemplateContent}.
+ * <p>
+ * Reads fall through to the template unless the slot has been modified,
+ * the modified slots are kept in a small sorted array, so the memory held
+ * by this content grows only with the number of slots it changed.
+ * A removed slot is kept as a null entry, so it hides the template's button.
+ * Every read goes through to the template without copying, so the buttons read from unmodified slots
+ * are the template's and must be treated as read-only, a template's button is only copied into this content
+ * when it's modified through {@link #updateButton(Slot, Consumer)}.
+ * </p>
+ *
+ * @see Content#overlay(Content)
+ */
+final class OverlayContent extends AbstractMenuContent {
+
+	private final static int[] NO_SLOTS = new int[0];
+	private final static Button[] NO_BUTTONS = new Button[0];
+
+	private final TemplateContent template;
+
+	private int[] modifiedSlots = NO_SLOTS;
+	private Button[] modifiedButtons = NO_BUTTONS;
+	private int modifiedCount = 0;
+
+	private int count;
+
+	OverlayContent(TemplateContent template) {
+		super(template.capacity());
+		this.template = template;
+		this.count = template.count();
+	}
+
+	/**
+	 * @return the shared template this content reads through
+	 */
+	TemplateContent getTemplate() {
+		return template;
+	}
+
+	/**
+	 * @return the number of slots this content has modified over its template
+	 */
+	int getModifiedCount() {
+		return modifiedCount;
+	}
+
+	private int indexOf(int slot) {
+		return Arrays.binarySearch(modifiedSlots, 0, modifiedCount, slot);
+	}
+
+	@Override
+	public @Nullable Button buttonAt(int slot) {
+		int index = indexOf(slot);
+		return index >= 0 ? modifiedButtons[index] : template.buttonAt(slot);
+	}
+
+	@Override
+	public ItemStack[] toItemArray() {
+		ItemStack[] items = template.toItemArray();
+		for (int i = 0; i < modifiedCount; i++) {
+			Button button = modifiedButtons[i];
+			items[modifiedSlots[i]] = button == null ? null : button.getItem();
+		}
+		return items;
+	}
+
+	@Override
+	@Nullable Button putButton(int slot, @Nullable Button button) {
+		checkSlot(slot);
+		int index = indexOf(slot);
+		Button old = index >= 0 ? modifiedButtons[index] : template.buttonAt(slot);
+
+		if (button == null && template.buttonAt(slot) == null) {
+			//nothing to hide from the template, so the slot isn't modified anymore
+			if (index >= 0) removeAt(index);
+		}
+		else if (index >= 0) {
+			modifiedButtons[index] = button;
+		}
+		else {
+			insertAt(-(index + 1), slot, button);
+		}
+
+		if (old == null && button != null) count++;
+		else if (old != null && button == null) count--;
+		return old;
+	}
+
+	@Override
+	int count() {
+		return count;
+	}
+
+	@Override
+	public void updateButton(Slot slot, Consumer<Button> buttonUpdate) {
+		int index = indexOf(slot.getSlot());
+		if (index >= 0) {
+			Button button = modifiedButtons[index];
+			if (button != null) buttonUpdate.accept(button);
+			return;
+		}
+
+		Button shared = template.buttonAt(slot.getSlot());
+		if (shared == null) return;
+
+		//copying the button (with its item and data) before the update, so that the template stays untouched
+		Button copy = shared.deepCopy();
+		insertAt(-(index + 1), slot.getSlot(), copy);
+		buttonUpdate.accept(copy);
+	}
+
+	private void insertAt(int index, int slot, @Nullable Button button) {
+		if (modifiedCount == modifiedSlots.length) {
+			int newLength = modifiedSlots.length == 0 ? 4 : modifiedSlots.length * 2;
+			modifiedSlots = Arrays.copyOf(modifiedSlots, newLength);
+			modifiedButtons = Arrays.copyOf(modifiedButtons, newLength);
+		}
+		System.arraycopy(modifiedSlots, index, modifiedSlots, index + 1, modifiedCount - index);
+		System.arraycopy(modifiedButtons, index, modifiedButtons, index + 1, modifiedCount - index);
+		modifiedSlots[index] = slot;
+		modifiedButtons[index] = button;
+		modifiedCount++;
+	}
+
+	private void removeAt(int index) {
+		int moved = modifiedCount - index - 1;
+		System.arraycopy(modifiedSlots, index + 1, modifiedSlots, index, moved);
+		System.arraycopy(modifiedButtons, index + 1, modifiedButtons, index, moved);
+		modifiedCount--;
+		modifiedButtons[modifiedCount] = null;
+	}
+
+}
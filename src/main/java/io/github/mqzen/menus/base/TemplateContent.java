@@ -0,0 +1,69 @@
+package io.github.mqzen.menus.base;
+
+import io.github.mqzen.menus.misc.Slot;
+import io.github.mqzen.menus.misc.button.Button;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * An immutable snapshot of a {@link Content}, meant to be shared between
+ * many views at once, each view reads through it using an {@link OverlayContent}
+ * which holds only the slots that the view has modified.
+ * <p>
+ * Every modifying operation throws {@link UnsupportedOperationException},
+ * and the buttons are deep copies of the source's, so modifying the source later doesn't affect the template.
+ * The reads return the shared buttons themselves, so they must be treated as read-only.
+ * </p>
+ *
+ * @see Content#template(Content)
+ */
+final class TemplateContent extends AbstractMenuContent {
+
+	private final Button[] buttons;
+	private final int count;
+	private final ItemStack[] items;
+
+	TemplateContent(Content source) {
+		super(source.capacity());
+		this.buttons = new Button[capacity.getTotalSize()];
+		int count = 0;
+		for (int slot = 0; slot < buttons.length; slot++) {
+			Button button = source.buttonAt(slot);
+			if (button == null) continue;
+			//deep copies, so that the source's buttons can be modified later without affecting the snapshot
+			buttons[slot] = button.deepCopy();
+			count++;
+		}
+		this.count = count;
+		//the items never change, so the array written into inventories is computed once
+		this.items = super.toItemArray();
+	}
+
+	@Override
+	public @Nullable Button buttonAt(int slot) {
+		return slot >= 0 && slot < buttons.length ? buttons[slot] : null;
+	}
+
+	@Override
+	public ItemStack[] toItemArray() {
+		return items.clone();
+	}
+
+	@Override
+	@Nullable Button putButton(int slot, @Nullable Button button) {
+		throw new UnsupportedOperationException("A content template cannot be modified, use Content#overlay(Content) instead");
+	}
+
+	@Override
+	int count() {
+		return count;
+	}
+
+	@Override
+	public void updateButton(Slot slot, Consumer<Button> buttonUpdate) {
+		throw new UnsupportedOperationException("A content template cannot be modified, use Content#overlay(Content) instead");
+	}
+
+}
@@ -14,7 +14,9 @@ public interface ViewOpener {
 	
 	/**
 	 * Creates an inventory , opens it for the player using the dynamic data
-	 * of the menu that is cached within 'ViewData'
+	 * of the menu that is cached within 'ViewData'.
+	 * The inventory must be held by the view itself (or by a {@link io.github.mqzen.menus.openers.PooledViewOpener.PooledHolder}),
+	 * as the inventory events of other holders are ignored.
 	 *
 	 * @param manager      the manager
 	 * @param player       the player opening this menu
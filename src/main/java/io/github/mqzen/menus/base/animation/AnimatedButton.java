@@ -66,6 +66,24 @@ public abstract class AnimatedButton extends Button {
      */
     public abstract void animate(Slot slot, @NotNull MenuView<?> view);
     
+    /**
+     * Computes the item of the next frame without touching the view,
+     * it's called off the main thread for async buttons, then the item is written
+     * to the view on the main thread.
+     * <p>
+     * The default implementation returns null, which means the button can only be
+     * animated on the main thread using {@link #animate(Slot, MenuView)}.
+     * </p>
+     *
+     * @param slot the slot
+     * @param view the menu view
+     * @return the item of the next frame, or null if it can't be computed off the main thread
+     * @see AnimationFrame
+     */
+    public @Nullable ItemStack nextFrame(Slot slot, @NotNull MenuView<?> view) {
+        return null;
+    }
+    
     /**
      * Creates a copy of the current Button instance. The copied Button retains the same item and action as the original.
      *
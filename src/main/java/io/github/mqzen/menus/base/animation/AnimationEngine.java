@@ -0,0 +1,254 @@
+package io.github.mqzen.menus.base.animation;
+
+import io.github.mqzen.menus.Lotus;
+import io.github.mqzen.menus.base.MenuView;
+import io.github.mqzen.menus.misc.Slot;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives the animations of every open view using a single 1-tick timer.
+ * <p>
+ * Animated buttons are kept in a hashed timing wheel keyed by the tick of their next frame,
+ * so each tick only visits the bucket of that tick instead of every animated button.
+ * </p>
+ * <p>
+ * The frames of async buttons ({@link AnimationTaskData#isAsync()}) are computed in parallel
+ * using {@link AnimatedButton#nextFrame(Slot, MenuView)} on a small bounded pool of worker threads,
+ * the computed {@link AnimationFrame}s are then polled and applied on the main thread,
+ * so inventories are never touched off the main thread.
+ * </p>
+ * <p>
+ * A view registers its animated buttons through an {@link AnimationEngine.ViewAnimations} handle,
+ * cancelling the handle is O(1), its entries are dropped from the wheel the next time they're visited.
+ * </p>
+ */
+public final class AnimationEngine {
+
+    private final static int WHEEL_SIZE = 64;
+    private final static int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final Lotus lotus;
+
+    @SuppressWarnings("unchecked")
+    private final List<Entry>[] wheel = new List[WHEEL_SIZE];
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<AnimationFrame> computedFrames = new ConcurrentLinkedQueue<>();
+
+    private final int workersCount = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+    private ThreadPoolExecutor frameWorkers = null;
+
+    private long currentTick = 0L;
+    private BukkitTask task = null;
+
+    public AnimationEngine(Lotus lotus) {
+        this.lotus = lotus;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Starts the timer of the engine, does nothing if it's already running
+     */
+    public synchronized void start() {
+        if (task != null) return;
+        frameWorkers = new ThreadPoolExecutor(workersCount, workersCount, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(1024), new FrameWorkerFactory(),
+                //when the workers are overloaded, the frames are computed by the timer itself
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        frameWorkers.allowCoreThreadTimeOut(true);
+        task = Bukkit.getScheduler().runTaskTimer(lotus.getPlugin(), this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops the timer of the engine and drops every scheduled animation
+     */
+    public synchronized void stop() {
+        if (task == null) return;
+        task.cancel();
+        task = null;
+        frameWorkers.shutdownNow();
+        frameWorkers = null;
+        pending.clear();
+        computedFrames.clear();
+        for (List<Entry> bucket : wheel) bucket.clear();
+    }
+
+    /**
+     * Creates the animations handle of a view
+     *
+     * @param view the view
+     * @return a handle to schedule the animated buttons of the view and to cancel them all at once
+     */
+    public ViewAnimations register(@NotNull MenuView<?> view) {
+        return new ViewAnimations(view);
+    }
+
+    /**
+     * Polls the next frame computed off the main thread
+     *
+     * @return the next computed frame, or null if there are none
+     */
+    public @Nullable AnimationFrame pollFrame() {
+        return computedFrames.poll();
+    }
+
+    private void tick() {
+        long tick = ++currentTick;
+
+        Entry added;
+        while ((added = pending.poll()) != null) {
+            //a delay of 1 (or less) means the very next tick, just like BukkitScheduler#runTaskTimer
+            added.nextFrame = tick + Math.max(1L, added.button.getAnimationTaskData().getDelay()) - 1;
+            wheel[(int) (added.nextFrame & WHEEL_MASK)].add(added);
+        }
+
+        int index = (int) (tick & WHEEL_MASK);
+        List<Entry> bucket = wheel[index];
+        List<Entry> asyncFrames = null;
+        int syncFrames = 0;
+
+        int size = bucket.size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Entry entry = bucket.get(i);
+            if (entry.owner.cancelled || !entry.owner.view.isOpen()) continue;
+
+            if (entry.nextFrame > tick) {
+                bucket.set(kept++, entry);
+                continue;
+            }
+
+            AnimationTaskData data = entry.button.getAnimationTaskData();
+            if (data.isAsync()) {
+                if (asyncFrames == null) asyncFrames = new ArrayList<>();
+                asyncFrames.add(entry);
+            } else {
+                entry.animate();
+                syncFrames++;
+            }
+
+            entry.nextFrame = tick + Math.max(1L, data.getTicks());
+            int nextIndex = (int) (entry.nextFrame & WHEEL_MASK);
+            if (nextIndex == index) bucket.set(kept++, entry);
+            else wheel[nextIndex].add(entry);
+        }
+
+        for (int i = size - 1; i >= kept; i--) {
+            bucket.remove(i);
+        }
+
+        //the asynchronous frames are recorded apart, by the update task which applies them
+        if (syncFrames > 0) lotus.getMetrics().recordSyncFrames(syncFrames);
+        if (asyncFrames != null) computeFrames(asyncFrames);
+    }
+
+    private void computeFrames(List<Entry> entries) {
+        //splitting the due frames evenly between the workers
+        int chunk = (entries.size() + workersCount - 1) / workersCount;
+        for (int from = 0; from < entries.size(); from += chunk) {
+            List<Entry> frames = entries.subList(from, Math.min(entries.size(), from + chunk));
+            frameWorkers.execute(() -> {
+                for (Entry entry : frames) {
+                    if (entry.owner.cancelled) continue;
+                    AnimationFrame frame = entry.computeFrame();
+                    if (frame != null) computedFrames.offer(frame);
+                }
+            });
+        }
+    }
+
+    /**
+     * The animated buttons of a single view
+     */
+    public final class ViewAnimations {
+
+        private final MenuView<?> view;
+        private volatile boolean cancelled = false;
+
+        private ViewAnimations(MenuView<?> view) {
+            this.view = view;
+        }
+
+        /**
+         * Schedules an animated button of the view,
+         * its first frame is run after {@link AnimationTaskData#getDelay()} ticks,
+         * then a frame every {@link AnimationTaskData#getTicks()} ticks.
+         *
+         * @param slot the slot of the button
+         * @param button the animated button
+         */
+        public void schedule(@NotNull Slot slot, @NotNull AnimatedButton button) {
+            if (cancelled) return;
+            pending.offer(new Entry(this, slot, button));
+        }
+
+        /**
+         * Cancels every animation of the view
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    private final class Entry {
+
+        private final ViewAnimations owner;
+        private final Slot slot;
+        private final AnimatedButton button;
+        private long nextFrame;
+
+        private Entry(ViewAnimations owner, Slot slot, AnimatedButton button) {
+            this.owner = owner;
+            this.slot = slot;
+            this.button = button;
+        }
+
+        private @Nullable AnimationFrame computeFrame() {
+            try {
+                return new AnimationFrame(owner.view, slot, button, button.nextFrame(slot, owner.view));
+            } catch (Throwable ex) {
+                lotus.getDebugger().error("Failed to compute the next frame of button at slot " + slot.getSlot(), ex);
+                return null;
+            }
+        }
+
+        private void animate() {
+            try {
+                button.animate(slot, owner.view);
+            } catch (Throwable ex) {
+                lotus.getDebugger().error("Failed to animate button at slot " + slot.getSlot(), ex);
+            }
+        }
+    }
+
+    private final static class FrameWorkerFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger(0);
+
+        @Override
+        public Thread newThread(@NotNull Runnable runnable) {
+            Thread thread = new Thread(runnable, "Lotus-Animation-Worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.github.mqzen.menus.base.animation;
+
+import io.github.mqzen.menus.base.MenuView;
+import io.github.mqzen.menus.misc.Slot;
+import lombok.Getter;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable frame of an animated button computed off the main thread,
+ * it's applied later on the main thread by writing its item to the slot of the view.
+ * <p>
+ * A frame without an item means the button can't compute its frames off the main thread
+ * (see {@link AnimatedButton#nextFrame(Slot, MenuView)}), so it's animated
+ * using {@link AnimatedButton#animate(Slot, MenuView)} on the main thread instead.
+ * </p>
+ */
+@Getter
+public final class AnimationFrame {
+
+    private final @NotNull MenuView<?> view;
+    private final @NotNull Slot slot;
+    private final @NotNull AnimatedButton button;
+    private final @Nullable ItemStack item;
+
+    AnimationFrame(@NotNull MenuView<?> view, @NotNull Slot slot, @NotNull AnimatedButton button, @Nullable ItemStack item) {
+        this.view = view;
+        this.slot = slot;
+        this.button = button;
+        this.item = item == null ? null : item.clone();
+    }
+
+    /**
+     * @return a copy of the item of this frame, null if the button has to be animated on the main thread
+     */
+    public @Nullable ItemStack getItem() {
+        return item == null ? null : item.clone();
+    }
+
+    /**
+     * @return whether the frame has to be animated on the main thread
+     */
+    public boolean isDeferred() {
+        return item == null;
+    }
+
+}
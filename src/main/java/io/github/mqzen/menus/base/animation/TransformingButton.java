@@ -68,6 +68,12 @@ public final class TransformingButton extends AnimatedButton {
     
     @Override
     public void animate(Slot slot, @NotNull MenuView<?> view) {
+        this.setItem(nextFrame(slot, view));
+        view.replaceButton(slot, this);
+    }
+    
+    @Override
+    public synchronized ItemStack nextFrame(Slot slot, @NotNull MenuView<?> view) {
         if(current+1 >= transformingItems.length)
             current = 0;
         else
@@ -76,7 +82,6 @@ public final class TransformingButton extends AnimatedButton {
         ItemStack next = transformingItems[current];
         assert next != null;
         
-        this.setItem(itemTransformer.apply(next));
-        view.replaceButton(slot, this);
+        return itemTransformer.apply(next);
     }
 }
@@ -68,7 +68,7 @@ public final class SlotIterator {
 		if(!this.canContinue()) {
 			throw new NoSuchElementException();
 		}
-		return current.copy();
+		return current;
 	}
 	
 	/**
@@ -96,7 +96,7 @@ public abstract class Page implements Menu {
 					ButtonClickAction.plain((menu, event) -> {
 						event.setCancelled(true);
 						onSwitchingToNextPage(pagination, capacity, nextButtonSlot, (PageView) menu, event);
-						pagination.next();
+						pagination.next((Player) event.getWhoClicked());
 					})));
 		
 		if (!pagination.isFirst(pageView))
@@ -104,7 +104,7 @@ public abstract class Page implements Menu {
 					ButtonClickAction.plain((menu, event) -> {
 						event.setCancelled(true);
 						onSwitchingToPreviousPage(pagination, capacity, previousButtonSlot, (PageView) menu, event);
-						pagination.previous();
+						pagination.previous((Player) event.getWhoClicked());
 					})));
 		
 		return content;
@@ -4,11 +4,20 @@ import io.github.mqzen.menus.base.BaseMenuView;
 import io.github.mqzen.menus.base.Content;
 import io.github.mqzen.menus.base.ViewOpener;
 import io.github.mqzen.menus.misc.Capacity;
+import io.github.mqzen.menus.misc.SlotMask;
 import io.github.mqzen.menus.misc.ViewData;
+import io.github.mqzen.menus.openers.PooledViewOpener;
 import lombok.Getter;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.InventoryView;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
 
 /**
  * Represents a view for a paginated menu system in the Lotus framework.
@@ -23,19 +32,30 @@ public final class PageView extends BaseMenuView<Page> {
 	private final int index;
 
 	private Capacity capacity;
+	
+	/**
+	 * The content shared by every viewer of this page, if the pagination is shared
+	 */
+	private final @Nullable Content sharedContent;
 
 	PageView(Pagination pagination, Page creator, int index) {
 		super(pagination.getLotusAPI(), creator);
 		this.pagination = pagination;
 		this.index = index;
+		this.sharedContent = null;
 		this.dataRegistry.setData("index", index);
 		this.dataRegistry.setData("pagination", pagination);
 	}
 	
 	PageView(Pagination pagination, int index) {
+		this(pagination, index, null);
+	}
+	
+	PageView(Pagination pagination, int index, @Nullable Content sharedContent) {
 		super(pagination.getLotusAPI(), pagination.getPageCreator());
 		this.pagination = pagination;
 		this.index = index;
+		this.sharedContent = sharedContent;
 		this.dataRegistry.setData("index", index);
 		this.dataRegistry.setData("pagination", pagination);
 	}
@@ -50,6 +70,13 @@ public final class PageView extends BaseMenuView<Page> {
 	@Override
 	public void initialize(Page page, Player opener) {
 		capacity = page.getCapacity(this.dataRegistry, opener);
+		dirtySlots = new SlotMask(capacity.getTotalSize());
+		
+		if (sharedContent != null) {
+			//the page content was built once for all viewers, this view only stores what it modifies
+			currentOpenedData = new ViewData(page.getTitle(this.dataRegistry, opener), capacity, Content.overlay(sharedContent));
+			return;
+		}
 
 		int maxButtonsCount = page.getFillRange(capacity, opener).getCount();
 
@@ -93,12 +120,81 @@ public final class PageView extends BaseMenuView<Page> {
 	 */
 	@Override
 	public void openView(ViewOpener viewOpener, Player player) {
+		long start = System.nanoTime();
 		//in automatic page view , we MUSTN'T initialize the data that was already pre-initialized internally in Pagination
 		if (!pagination.isAutomatic())
 			initialize(menu, player);
 		
 		currentOpenInventory = viewOpener.openMenu(api, player, this, currentOpenedData);
 		currentOpener = player;
+		scheduleAnimations();
+		api.getMetrics().recordOpen(menu.getName(), System.nanoTime() - start);
+	}
+	
+	/**
+	 * Shows this page in the inventory of the page the player is currently viewing,
+	 * instead of opening a new inventory, its contents are rewritten in a single pass
+	 * and the player's open view becomes this page.
+	 * <p>
+	 * It's only possible when both pages have the same capacity and title, as they can't be changed
+	 * in an open inventory. The inventory isn't closed, so no close or open event is fired,
+	 * but the {@link Page#onClose} and {@link Page#onOpen} callbacks of the pages are still called
+	 * (with events that aren't fired), if the open event is cancelled, the inventory is closed.
+	 * </p>
+	 * <p>
+	 * The holder of the inventory is rebound to this page when it's a pooled one, otherwise it stays
+	 * the page the inventory was opened for, which doesn't matter as the inventory is bound to this page
+	 * in the registry of the open views, which Lotus checks before the holder.
+	 * </p>
+	 *
+	 * @param previous the page the player is viewing
+	 * @param player   the player
+	 * @return whether the page was switched in place, if not, it has to be opened instead
+	 */
+	boolean switchFrom(PageView previous, Player player) {
+		Inventory inventory = previous.currentOpenInventory;
+		if (!previous.isOpen() || previous.currentOpener != player
+			|| !inventory.equals(player.getOpenInventory().getTopInventory()))
+			return false;
+		
+		long start = System.nanoTime();
+		if (!pagination.isAutomatic())
+			initialize(menu, player);
+		ViewData data = currentOpenedData, previousData = previous.currentOpenedData;
+		int size = data.capacity().getTotalSize();
+		if (size != inventory.getSize() || size != previousData.capacity().getTotalSize()
+			|| !Objects.equals(data.title().asString(), previousData.title().asString()))
+			return false;
+		
+		inventory.setContents(data.content().toItemArray());
+		player.updateInventory();
+		
+		InventoryView openView = player.getOpenInventory();
+		previous.getMenu().onClose(previous, new InventoryCloseEvent(openView));
+		previous.detach(player);
+		
+		currentOpener = player;
+		currentOpenInventory = inventory;
+		InventoryHolder holder = inventory.getHolder();
+		if (holder instanceof PooledViewOpener.PooledHolder)
+			((PooledViewOpener.PooledHolder) holder).rebind(this);
+		api.setOpenView(player, this);
+		//the previous page's animations were cancelled when it was detached
+		scheduleAnimations();
+		api.getMetrics().recordOpen(menu.getName(), System.nanoTime() - start);
+		
+		InventoryOpenEvent openEvent = new InventoryOpenEvent(openView);
+		menu.onOpen(this, openEvent);
+		if (openEvent.isCancelled())
+			player.closeInventory();
+		return true;
+	}
+	
+	private void detach(Player player) {
+		release();
+		pagination.onPageClosed(this, player);
+		currentOpener = null;
+		currentOpenInventory = null;
 	}
 	
 	/**
@@ -109,6 +205,7 @@ public final class PageView extends BaseMenuView<Page> {
 	@Override
 	public void onClose(InventoryCloseEvent event) {
 		super.onClose(event);
+		pagination.onPageClosed(this, (Player) event.getPlayer());
 		currentOpener = null;
 		currentOpenInventory = null;
 	}
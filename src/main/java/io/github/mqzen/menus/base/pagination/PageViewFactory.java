@@ -1,5 +1,6 @@
 package io.github.mqzen.menus.base.pagination;
 
+import io.github.mqzen.menus.base.Content;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
@@ -18,6 +19,10 @@ final class PageViewFactory {
 		return new PageView(pagination, model, index);
 	}
 	
+	static PageView createShared(Pagination pagination, int index, Content template) {
+		return new PageView(pagination, index, template);
+	}
+	
 	static PageView createView(Pagination pagination, @NotNull Page model, int index) {
 		return pagination.isAutomatic() ? createAuto(pagination, index) : createPlain(pagination, model, index);
 	}
@@ -42,6 +42,26 @@ public interface Pagination {
 	 */
 	void previous();
 	
+	/**
+	 * Moves the viewer to the next page,
+	 * in a shared pagination each viewer has its own position.
+	 *
+	 * @param viewer the player viewing the pagination
+	 */
+	default void next(Player viewer) {
+		next();
+	}
+	
+	/**
+	 * Moves the viewer to the previous page,
+	 * in a shared pagination each viewer has its own position.
+	 *
+	 * @param viewer the player viewing the pagination
+	 */
+	default void previous(Player viewer) {
+		previous();
+	}
+	
 	/**
 	 * The handler of all menus
 	 *
@@ -56,6 +76,16 @@ public interface Pagination {
 	 * @return whether the paginated menu is automatic
 	 */
 	boolean isAutomatic();
+	
+	/**
+	 * A shared pagination builds the content of each page once for all viewers,
+	 * each viewer only holds its own position (cursor) in the pagination.
+	 *
+	 * @return whether the pages are shared between viewers
+	 */
+	default boolean isShared() {
+		return false;
+	}
 
 	/**
 	 * The creator of every page
@@ -79,6 +109,24 @@ public interface Pagination {
 	 */
 	int getCurrentPageIndex();
 	
+	/**
+	 * @param viewer the player viewing the pagination
+	 * @return The current index of the page being open by the viewer.
+	 */
+	default int getCurrentPageIndex(Player viewer) {
+		return getCurrentPageIndex();
+	}
+	
+	/**
+	 * Called when a page view of this pagination is closed
+	 *
+	 * @param pageView the closed page view
+	 * @param viewer the player who closed it
+	 */
+	@ApiStatus.Internal
+	default void onPageClosed(PageView pageView, Player viewer) {
+	}
+	
 	/**
 	 * @return the components of pagination
 	 */
@@ -222,6 +270,8 @@ public interface Pagination {
 		public static class Automatic extends Builder {
 			
 			private boolean trimExtra = false;
+			private int maxCachedPages = 0;
+			private boolean shared = false;
 			private final LinkedList<PageComponent> components = Lists.newLinkedList();
 			private Page creator;
 			private PageComponentsProvider provider;
@@ -251,12 +301,53 @@ public interface Pagination {
 				return this;
 			}
 			
+			/**
+			 * Makes the pagination build each page only when it's opened,
+			 * instead of building all pages before opening the first one,
+			 * the most recently opened pages are kept cached.
+			 *
+			 * @param maxCachedPages the maximum number of built pages kept in cache
+			 * @return this builder
+			 */
+			public Automatic lazy(int maxCachedPages) {
+				if (maxCachedPages <= 0)
+					throw new IllegalArgumentException("Max cached pages must be positive");
+				this.maxCachedPages = maxCachedPages;
+				return this;
+			}
+			
+			/**
+			 * Makes the pagination build each page only when it's opened,
+			 * keeping up to 16 built pages cached.
+			 *
+			 * @return this builder
+			 * @see #lazy(int)
+			 */
+			public Automatic lazy() {
+				return lazy(16);
+			}
+			
+			/**
+			 * Makes the pagination shareable between many viewers at once,
+			 * the content of each page is built once (when it's first opened) and every viewer
+			 * gets a light view of it, keeping only its own position in the pagination.
+			 * <p>
+			 * The content of the pages must not depend on the viewer.
+			 * </p>
+			 *
+			 * @return this builder
+			 */
+			public Automatic shared() {
+				this.shared = true;
+				return this;
+			}
+			
 			@Override
 			public Pagination build() {
 				if (creator == null)
 					throw new IllegalStateException("Didn't set creator for this pagination");
 				
-				PaginationImpl impl = new PaginationImpl(manager, trimExtra, auto, creator);
+				PaginationImpl impl = new PaginationImpl(manager, trimExtra, auto, creator, maxCachedPages, shared);
 				if (provider != null)
 					impl.setComponentProvider(provider);
 				
@@ -2,6 +2,8 @@ package io.github.mqzen.menus.base.pagination;
 
 import com.google.common.collect.Lists;
 import io.github.mqzen.menus.Lotus;
+import io.github.mqzen.menus.base.Content;
+import io.github.mqzen.menus.base.MenuView;
 import io.github.mqzen.menus.base.pagination.exception.InvalidPageException;
 import io.github.mqzen.menus.misc.Capacity;
 import io.github.mqzen.menus.misc.DataRegistry;
@@ -11,15 +13,21 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 class PaginationImpl implements Pagination {
 	
 	private final Lotus manager;
 	private final Page pageModel;
 	private final List<PageComponent> components = Lists.newArrayList();
-	private final Map<Integer, PageView> pages = new HashMap<>();
+	private final Map<Integer, PageView> pages;
 	private int lastPage;
 	private final boolean automatic;
+	private final int maxCachedPages;
+	private final boolean shared;
+	private final Map<Integer, Content> sharedPages;
+	private final Map<UUID, Cursor> cursors = new ConcurrentHashMap<>();
+	private @Nullable Player paginatedFor = null;
 	private @Nullable Player currentOpener = null;
 	private int currentIndex = 0;
 	private final boolean trimExtra;
@@ -32,19 +40,54 @@ class PaginationImpl implements Pagination {
 		boolean trimExtra,
 		boolean automatic,
 		Page pageModel
+	) {
+		this(manager, trimExtra, automatic, pageModel, 0, false);
+	}
+
+	/**
+	 * @param maxCachedPages if positive, the pagination is lazy, pages are only built when they're opened,
+	 *                       and only the most recently used pages (up to this count) are kept.
+	 * @param shared whether the pages are built once and viewed by many players at once,
+	 *               each having its own cursor
+	 */
+	PaginationImpl(
+		Lotus manager,
+		boolean trimExtra,
+		boolean automatic,
+		Page pageModel,
+		int maxCachedPages,
+		boolean shared
 	) {
 		if (automatic && pageModel == null)
 			throw new IllegalStateException("Automatic pagination has no creator");
+		if (maxCachedPages > 0 && !automatic)
+			throw new IllegalStateException("Only automatic pagination can build its pages lazily");
+		if (shared && !automatic)
+			throw new IllegalStateException("Only automatic pagination can be shared between viewers");
 		
 		this.manager = manager;
 		this.trimExtra = trimExtra;
 		this.automatic = automatic;
 		this.pageModel = pageModel;
+		this.maxCachedPages = maxCachedPages;
+		this.shared = shared;
+		this.pages = newPageCache(maxCachedPages);
+		this.sharedPages = newPageCache(maxCachedPages);
 		DEFAULT_PAGINATION_DATA.setData("index", 0);
 		DEFAULT_PAGINATION_DATA.setData("pagination", this);
 	}
 
 
+	private static <V> Map<Integer, V> newPageCache(int maxCachedPages) {
+		if (maxCachedPages <= 0) return new HashMap<>();
+		return new LinkedHashMap<Integer, V>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, V> eldest) {
+				return size() > maxCachedPages;
+			}
+		};
+	}
+
 	/**
 	 * it's always zero if {@link Pagination#paginate(Player)} hasn't been called yet !
 	 *
@@ -77,6 +120,33 @@ class PaginationImpl implements Pagination {
 		open();
 	}
 
+	@Override
+	public void next(Player viewer) {
+		if (!shared) {
+			next();
+			return;
+		}
+		Cursor cursor = cursors.get(viewer.getUniqueId());
+		open(viewer, (cursor == null ? 0 : cursor.index) + 1);
+	}
+
+	@Override
+	public void previous(Player viewer) {
+		if (!shared) {
+			previous();
+			return;
+		}
+		Cursor cursor = cursors.get(viewer.getUniqueId());
+		open(viewer, (cursor == null ? 0 : cursor.index) - 1);
+	}
+
+	private void open(Player viewer, int index) {
+		try {
+			openPage(index, viewer);
+		} catch (InvalidPageException ignored) {
+		}
+	}
+
 	private void open() {
 		try {
 			openPage(currentIndex, currentOpener);
@@ -108,6 +178,27 @@ class PaginationImpl implements Pagination {
 		return automatic;
 	}
 	
+	/**
+	 * A shared pagination builds the content of each page once,
+	 * every viewer gets its own view reading through that content.
+	 *
+	 * @return whether the pages of this pagination are shared between viewers
+	 */
+	@Override
+	public boolean isShared() {
+		return shared;
+	}
+	
+	/**
+	 * A lazy pagination builds each page only when it's requested,
+	 * keeping only the most recently used ones.
+	 *
+	 * @return whether the pages of this pagination are built lazily
+	 */
+	public boolean isLazy() {
+		return maxCachedPages > 0;
+	}
+	
 	/**
 	 * The creator of every page
 	 *
@@ -141,6 +232,13 @@ class PaginationImpl implements Pagination {
 		return currentIndex;
 	}
 	
+	@Override
+	public int getCurrentPageIndex(Player viewer) {
+		if (!shared) return currentIndex;
+		Cursor cursor = cursors.get(viewer.getUniqueId());
+		return cursor == null ? 0 : cursor.index;
+	}
+	
 	/**
 	 * @return the components of pagination
 	 */
@@ -158,12 +256,17 @@ class PaginationImpl implements Pagination {
 	 * @see PageView
 	 */
 	@Override
-	public @NotNull Optional<PageView> getPageOrDefault(int index, int defaultIndex) {
+	public synchronized @NotNull Optional<PageView> getPageOrDefault(int index, int defaultIndex) {
+		if (isLazy()) {
+			PageView pageView = getOrBuildPage(index);
+			return Optional.ofNullable(pageView != null ? pageView : getOrBuildPage(defaultIndex));
+		}
 		return Optional.ofNullable(pages.getOrDefault(index, pages.get(defaultIndex)));
 	}
 	
 	/**
-	 * Gets all pages
+	 * Gets all pages,
+	 * for a lazy pagination, only the pages that are currently cached are returned.
 	 *
 	 * @return all current pages
 	 */
@@ -178,8 +281,9 @@ class PaginationImpl implements Pagination {
 	 * @param provider providing the components per page
 	 */
 	@Override
-	public void setComponentProvider(PageComponentsProvider provider) {
+	public synchronized void setComponentProvider(PageComponentsProvider provider) {
 		components.addAll(provider.provide());
+		invalidateSharedPages();
 	}
 	
 	/**
@@ -188,8 +292,16 @@ class PaginationImpl implements Pagination {
 	 * @param components of the pagination
 	 */
 	@Override
-	public void addComponents(List<PageComponent> components) {
+	public synchronized void addComponents(List<PageComponent> components) {
 		this.components.addAll(components);
+		invalidateSharedPages();
+	}
+
+	private void invalidateSharedPages() {
+		if (!shared) return;
+		//the shared pages are rebuilt by the next viewer opening the pagination
+		sharedPages.clear();
+		maxPages = 0;
 	}
 	
 	@Override
@@ -202,54 +314,78 @@ class PaginationImpl implements Pagination {
 		if(maxPages <= 0) {
 			maxPages = 1;
 			lastPage = 0;
-			PageView pageView = PageViewFactory.createAuto(this, lastPage);
-			pageView.initialize(this.pageModel, opener);
-			pages.put(lastPage, pageView);
+		}
+
+		if (isLazy() || shared) {
+			//pages are built on demand, only the page count is needed upfront
+			this.paginatedFor = opener;
+			pages.clear();
+			sharedPages.clear();
 			return;
 		}
 
 		for (int pageIndex = 0; pageIndex < maxPages; pageIndex++) {
-			PageView pageView = PageViewFactory.createAuto(this, pageIndex);
-			pageView.initialize(this.pageModel, opener);
-
-			FillRange fillRange = pageView.getMenu().getFillRange(pageView.getCapacity(), opener);
-			final int buttonsPerPage = fillRange.getCount();
-			int startIndex = pageIndex * buttonsPerPage;
-			int endIndex = (pageIndex + 1) * buttonsPerPage;
-
-			int start = fillRange.getStart().getSlot();
-			for (int index = startIndex; index < endIndex; index++) {
-				PageComponent component = getComponent(components, index);
-				if (component == null) break;
-
-				int nextEmptySlot = pageView.getContent().nextEmptySlot(start);
-				if(nextEmptySlot == -1)  {
-					break;
-				}
-
-				if(fillRange.isForbiddenSlot(Slot.of(nextEmptySlot))) {
-					start = nextEmptySlot+1;
-					index--;
-					continue;
-				}
-				pageView.getContent()
-					.setButton(nextEmptySlot, component.toButton());
-			}
-			pages.put(pageIndex, pageView);
+			pages.put(pageIndex, buildPage(pageIndex, opener));
 		}
+	}
 
+	private @Nullable PageView getOrBuildPage(int pageIndex) {
+		if (pageIndex < 0 || pageIndex >= maxPages) return null;
+
+		PageView pageView = pages.get(pageIndex);
+		if (pageView == null) {
+			Player opener = currentOpener != null ? currentOpener : paginatedFor;
+			pageView = buildPage(pageIndex, opener);
+			pages.put(pageIndex, pageView);
+		}
+		return pageView;
+	}
 
+	private @Nullable Content getOrBuildSharedPage(int pageIndex) {
+		if (pageIndex < 0 || pageIndex >= maxPages) return null;
 
+		Content template = sharedPages.get(pageIndex);
+		if (template == null) {
+			template = Content.template(buildPage(pageIndex, paginatedFor).getContent());
+			sharedPages.put(pageIndex, template);
+		}
+		return template;
 	}
 
-	private static PageComponent getComponent(List<PageComponent> components, int index) {
-		try {
-			return components.get(index);
-		}catch (Exception ex) {
-			return null;
+	private PageView buildPage(int pageIndex, Player opener) {
+		long buildStart = System.nanoTime();
+		PageView pageView = PageViewFactory.createAuto(this, pageIndex);
+		pageView.initialize(this.pageModel, opener);
+
+		FillRange fillRange = pageView.getMenu().getFillRange(pageView.getCapacity(), opener);
+		final int buttonsPerPage = fillRange.getCount();
+		//the components of a page are located directly from its index
+		int startIndex = pageIndex * buttonsPerPage;
+		int endIndex = Math.min(components.size(), startIndex + buttonsPerPage);
+
+		int start = fillRange.getStart().getSlot();
+		for (int index = startIndex; index < endIndex; index++) {
+			PageComponent component = components.get(index);
+
+			int nextEmptySlot = pageView.getContent().nextEmptySlot(start);
+			if(nextEmptySlot == -1)  {
+				break;
+			}
+
+			if(fillRange.isForbiddenSlot(Slot.of(nextEmptySlot))) {
+				start = nextEmptySlot+1;
+				index--;
+				continue;
+			}
+			pageView.getContent()
+				.setButton(nextEmptySlot, component.toButton());
+			//the slots before are all filled, so filling a page is a single pass over its slots
+			start = nextEmptySlot + 1;
 		}
+		manager.getMetrics().recordPaginationBuild(System.nanoTime() - buildStart);
+		return pageView;
 	}
-	
+
 	private int calculateMaxPages(Player opener, Capacity capacity) {
 		int buttonsCountPerPage = pageModel.getFillRange(capacity, opener).getCount();
 		return (int) Math.ceil((double) components.size() / buttonsCountPerPage);
@@ -267,17 +403,61 @@ class PaginationImpl implements Pagination {
 	}
 	
 	@Override
-	public void openPage(int pageIndex, Player opener) throws InvalidPageException {
-		PageView pageView = pages.get(pageIndex);
+	public synchronized void openPage(int pageIndex, Player opener) throws InvalidPageException {
+		if (shared) {
+			openSharedPage(pageIndex, opener);
+			return;
+		}
+		PageView pageView = isLazy() ? getOrBuildPage(pageIndex) : pages.get(pageIndex);
 		
 		if (pageView == null)
 			throw new InvalidPageException(pageIndex);
 		
+		openOrSwitch(opener, pageView);
+	}
+	
+	/**
+	 * Switches the page shown in the inventory the player has open when the player is viewing
+	 * another page of this pagination with the same capacity and title,
+	 * otherwise the page is opened in a new inventory on the next tick.
+	 */
+	private void openOrSwitch(Player opener, PageView pageView) {
+		MenuView<?> current = manager.getMenuView(opener.getUniqueId()).orElse(null);
+		if (current != pageView && current instanceof PageView && ((PageView) current).getPagination() == this
+			&& pageView.switchFrom((PageView) current, opener))
+			return;
+		
 		Bukkit.getScheduler().runTaskLater(manager.getPlugin(), () -> this.getLotusAPI().openMenu(opener, pageView), 1L);
 	}
 	
+	private void openSharedPage(int pageIndex, Player opener) throws InvalidPageException {
+		Content template = getOrBuildSharedPage(pageIndex);
+		if (template == null)
+			throw new InvalidPageException(pageIndex);
+
+		PageView pageView = PageViewFactory.createShared(this, pageIndex, template);
+		pageView.initialize(pageModel, opener);
+		cursors.put(opener.getUniqueId(), new Cursor(pageIndex, pageView));
+
+		openOrSwitch(opener, pageView);
+	}
+
+	@Override
+	public void onPageClosed(PageView pageView, Player viewer) {
+		if (!shared) return;
+		//switching pages opens the next view before the previous one is closed, so its cursor is kept
+		cursors.computeIfPresent(viewer.getUniqueId(), (uuid, cursor) -> cursor.view == pageView ? null : cursor);
+	}
+
 	@Override
-	public void open(Player opener) throws InvalidPageException {
+	public synchronized void open(Player opener) throws InvalidPageException {
+		if (shared) {
+			//pages of a shared pagination are built once for all viewers
+			if (maxPages == 0) paginate(opener);
+			openPage(0, opener);
+			return;
+		}
+		
 		if (this.isAutomatic())
 			paginate(opener);
 		
@@ -313,4 +493,18 @@ class PaginationImpl implements Pagination {
 	public void initLastPage() {
 		this.lastPage = pages.size()-1;
 	}
+
+	/**
+	 * The position of a viewer in a shared pagination
+	 */
+	private static final class Cursor {
+
+		private final int index;
+		private final PageView view;
+
+		private Cursor(int index, PageView view) {
+			this.index = index;
+			this.view = view;
+		}
+	}
 }
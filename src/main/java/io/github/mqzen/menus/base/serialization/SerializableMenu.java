@@ -4,20 +4,34 @@ import io.github.mqzen.menus.base.Content;
 import io.github.mqzen.menus.base.Menu;
 import io.github.mqzen.menus.misc.Capacity;
 import io.github.mqzen.menus.misc.DataRegistry;
-import io.github.mqzen.menus.misc.Slot;
-import io.github.mqzen.menus.misc.itembuilder.LegacyItemBuilder;
+import io.github.mqzen.menus.misc.button.Button;
+import io.github.mqzen.menus.misc.placeholder.PlaceholderItem;
+import io.github.mqzen.menus.misc.placeholder.PlaceholderRegistry;
 import io.github.mqzen.menus.titles.MenuTitle;
 import io.github.mqzen.menus.titles.MenuTitles;
+import io.github.mqzen.menus.titles.TitleTemplate;
+import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-import static io.github.mqzen.menus.base.serialization.SimpleMenuSerializer.PLAYER_PLACEHOLDER;
-
+/**
+ * A menu loaded from (or written to) a file.
+ * <p>
+ * Its texts are compiled once when it's created, every button whose item has no placeholder
+ * is part of its static layer (see {@link Menu#getStaticLayer(Capacity)}), so opening it
+ * only renders the slots having placeholders for the viewer.
+ * The loaded content is never modified.
+ * </p>
+ *
+ * @see PlaceholderRegistry
+ */
 public final class SerializableMenu implements Menu {
 	
 	private final String name;
@@ -25,6 +39,11 @@ public final class SerializableMenu implements Menu {
 	private final Capacity capacity;
 	private final Content content;
 	
+	private final TitleTemplate title;
+	private final Content staticLayer;
+	private final int[] placeholderSlots;
+	private final PlaceholderItem[] placeholderItems;
+	
 	public SerializableMenu(
 					String name, String titleString,
 					Capacity capacity, Content content
@@ -33,6 +52,29 @@ public final class SerializableMenu implements Menu {
 		this.titleString = titleString;
 		this.capacity = capacity;
 		this.content = content;
+		
+		//the colors are translated once, only the placeholders are rendered per opener
+		this.title = MenuTitles.legacyTemplate(titleString);
+		
+		List<Integer> slots = new ArrayList<>();
+		List<PlaceholderItem> items = new ArrayList<>();
+		Content layer = Content.empty(capacity);
+		content.forEachItem((slot, button) -> {
+			Button translated = button.copy().setItem(translateColors(button.getItem()));
+			layer.setButton(slot, translated);
+			
+			PlaceholderItem item = PlaceholderItem.compile(translated.getItem());
+			if (item == null) return;
+			slots.add(slot.getSlot());
+			items.add(item);
+		});
+		this.staticLayer = Content.template(layer);
+		
+		this.placeholderSlots = new int[slots.size()];
+		for (int i = 0; i < placeholderSlots.length; i++) {
+			placeholderSlots[i] = slots.get(i);
+		}
+		this.placeholderItems = items.toArray(new PlaceholderItem[0]);
 	}
 	
 	public SerializableMenu(DataRegistry dataRegistry) {
@@ -44,6 +86,27 @@ public final class SerializableMenu implements Menu {
 		);
 	}
 	
+	/**
+	 * Translates the legacy color codes of the display name and lore of an item,
+	 * it's done once when the menu is loaded.
+	 */
+	private static @Nullable ItemStack translateColors(@Nullable ItemStack item) {
+		if (item == null || !item.hasItemMeta()) return item;
+		
+		ItemStack translated = item.clone();
+		ItemMeta meta = translated.getItemMeta();
+		if (meta.hasDisplayName()) {
+			meta.setDisplayName(ChatColor.translateAlternateColorCodes('&', meta.getDisplayName()));
+		}
+		if (meta.hasLore()) {
+			List<String> lore = new ArrayList<>(meta.getLore());
+			lore.replaceAll((line) -> ChatColor.translateAlternateColorCodes('&', line));
+			meta.setLore(lore);
+		}
+		translated.setItemMeta(meta);
+		return translated;
+	}
+	
 	/**
 	 * @return The unique name for this menu
 	 */
@@ -59,8 +122,7 @@ public final class SerializableMenu implements Menu {
 	 */
 	@Override
 	public @NotNull MenuTitle getTitle(DataRegistry extraData, Player opener) {
-		return MenuTitles.createLegacy(titleString()
-						.replace(PLAYER_PLACEHOLDER, opener.getName()));
+		return title.render(opener, extraData);
 	}
 	
 	/**
@@ -74,38 +136,44 @@ public final class SerializableMenu implements Menu {
 	}
 	
 	/**
-	 * Creates the content for the menu
+	 * The buttons of the loaded content whose items have no placeholders,
+	 * with their color codes translated.
+	 *
+	 * @param capacity the capacity of the menu
+	 * @return the immutable static layer
+	 */
+	@Override
+	public @NotNull Content getStaticLayer(Capacity capacity) {
+		return staticLayer;
+	}
+	
+	/**
+	 * @return true, the static layer is loaded once with the menu
+	 */
+	@Override
+	public boolean hasStaticLayer() {
+		return true;
+	}
+	
+	/**
+	 * Renders the slots having placeholders for the opener,
+	 * they're laid on top of the static layer of the menu.
 	 *
 	 * @param extraData the data container for this menu for extra data
 	 * @param opener    the player opening this menu
 	 * @param capacity  the capacity set by the user above
-	 * @return the content of the menu to add (this includes items)
+	 * @return the rendered slots
 	 */
 	@Override
 	public @NotNull Content getContent(DataRegistry extraData, Player opener, Capacity capacity) {
-		
-		Content modified = content();
-		for (Slot slot : modified.getButtonMap().keySet()) {
-			modified.setButton(slot, modified.getButton(slot).map((b) -> {
-				if (b.getItem() == null) return b;
-				ItemStack oldItem = b.getItem();
-				String oldDisplay = "";
-				if (oldItem.getItemMeta().hasDisplayName()) {
-					oldDisplay = oldItem.getItemMeta().getDisplayName();
-				}
-				List<String> oldLore = oldItem.getItemMeta().getLore();
-				if (oldLore == null) oldLore = new ArrayList<>();
-				oldLore.replaceAll((str) -> str.replace(PLAYER_PLACEHOLDER, opener.getName()));
-				
-				return b.setItem(LegacyItemBuilder
-								.legacy(oldItem)
-								.setDisplay(oldDisplay.replace(PLAYER_PLACEHOLDER, opener.getName()))
-								.setLore(oldLore)
-								.build());
-			}).orElse(null));
+		Content rendered = Content.empty(capacity);
+		for (int i = 0; i < placeholderSlots.length; i++) {
+			int slot = placeholderSlots[i];
+			Button button = staticLayer.buttonAt(slot);
+			if (button == null) continue;
+			rendered.setButton(slot, button.copy().setItem(placeholderItems[i].render(opener, extraData)));
 		}
-		
-		return modified;
+		return rendered;
 	}
 	
 	public String titleString() {
@@ -15,5 +15,20 @@ public interface SerializedMenuIO<F> {
 	void write(@NotNull DataRegistry registry, @NotNull F file);
 	
 	@NotNull DataRegistry read(@NotNull F file);
+	
+	/**
+	 * Converts a menu from one format to another, e.g: from a YAML file to a binary one
+	 *
+	 * @param from   the IO of the format to read
+	 * @param source the file to read
+	 * @param to     the IO of the format to write
+	 * @param target the file to write
+	 * @param <S>    the file type to read
+	 * @param <T>    the file type to write
+	 */
+	static <S, T> void convert(@NotNull SerializedMenuIO<S> from, @NotNull S source,
+	                           @NotNull SerializedMenuIO<T> to, @NotNull T target) {
+		to.write(from.read(source), target);
+	}
 
 }
@@ -0,0 +1,339 @@
+package io.github.mqzen.menus.base.serialization.impl;
+
+import io.github.mqzen.menus.base.Content;
+import io.github.mqzen.menus.base.serialization.SerializedMenuIO;
+import io.github.mqzen.menus.misc.Capacity;
+import io.github.mqzen.menus.misc.DataRegistry;
+import io.github.mqzen.menus.misc.Slot;
+import io.github.mqzen.menus.misc.button.Button;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+import org.bukkit.configuration.serialization.ConfigurationSerialization;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * A compact binary format of serialized menus, it holds exactly what {@link SerializedMenuYaml} holds,
+ * so menus convert between both losslessly (see {@link SerializedMenuIO#convert(SerializedMenuIO, Object, SerializedMenuIO, Object)}),
+ * but it's read from a memory-mapped file without going through YAML parsing.
+ * <p>
+ * The format (big-endian) is:
+ * <pre>
+ * magic (int "LOTM") | version (short)
+ * string table: byte length (int) | count (int) | [utf-8 byte length (int) | utf-8 bytes]...
+ * body: byte length (int) | name (string) | title (string) | rows (int) | button count (int)
+ *       | [slot (int) | item (value) | actions count (int) | [action (string)]...]...
+ * </pre>
+ * Strings are indices (int) into the string table, -1 being null, so repeated names and lore lines
+ * are stored once. Items are stored as their {@link ConfigurationSerializable} maps,
+ * the same maps the YAML format stores them as.
+ * </p>
+ */
+public final class SerializedMenuBinary implements SerializedMenuIO<Path> {
+
+	/**
+	 * The magic number every menu file starts with ("LOTM")
+	 */
+	public static final int MAGIC = 0x4C4F544D;
+
+	/**
+	 * The version of the format written, files of newer versions aren't read
+	 */
+	public static final short VERSION = 1;
+
+	private static final byte NULL = 0, STRING = 1, INT = 2, LONG = 3, DOUBLE = 4,
+		BOOLEAN = 5, LIST = 6, MAP = 7, SERIALIZABLE = 8;
+
+	private final @Nullable Logger logger;
+
+	public SerializedMenuBinary() {
+		this(null);
+	}
+
+	/**
+	 * @param logger the logger reporting the unknown action tags of the menus read
+	 */
+	public SerializedMenuBinary(@Nullable Logger logger) {
+		this.logger = logger;
+	}
+
+	@Override
+	public Class<Path> fileType() {
+		return Path.class;
+	}
+
+	@Override
+	public void write(@NotNull DataRegistry registry, @NotNull Path file) {
+		StringTable strings = new StringTable();
+		ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(1024);
+
+		try (DataOutputStream body = new DataOutputStream(bodyBytes)) {
+			Capacity capacity = registry.getData("capacity");
+			body.writeInt(strings.indexOf(registry.getData("name")));
+			body.writeInt(strings.indexOf(registry.getData("title")));
+			body.writeInt(capacity.getRows());
+
+			Content content = registry.getData("content");
+			Map<Slot, Button> buttons = content == null ? Collections.emptyMap() : content.getButtonMap();
+			body.writeInt(buttons.size());
+			for (Map.Entry<Slot, Button> entry : buttons.entrySet()) {
+				int slot = entry.getKey().getSlot();
+				body.writeInt(slot);
+				writeValue(body, strings, entry.getValue().getItem());
+
+				List<String> actions = registry.getData("BTN:" + slot);
+				if (actions == null) actions = Collections.emptyList();
+				body.writeInt(actions.size());
+				for (String action : actions) {
+					body.writeInt(strings.indexOf(action));
+				}
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+
+		byte[] table = strings.encode();
+		ByteBuffer header = ByteBuffer.allocate(4 + 2 + 4);
+		header.putInt(MAGIC).putShort(VERSION).putInt(table.length);
+		header.flip();
+		ByteBuffer bodyLength = ByteBuffer.allocate(4);
+		bodyLength.putInt(bodyBytes.size());
+		bodyLength.flip();
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+			StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer[] buffers = {header, ByteBuffer.wrap(table), bodyLength, ByteBuffer.wrap(bodyBytes.toByteArray())};
+			long remaining = 0;
+			for (ByteBuffer buffer : buffers) remaining += buffer.remaining();
+			while (remaining > 0) {
+				remaining -= channel.write(buffers);
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	@Override
+	public @NotNull DataRegistry read(@NotNull Path file) {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			//the mapping stays valid after the channel is closed
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return read(buffer);
+	}
+
+	/**
+	 * Reads a menu from a buffer positioned at the start of the menu
+	 *
+	 * @param buffer the buffer holding the menu
+	 * @return the data of the menu
+	 */
+	public @NotNull DataRegistry read(@NotNull ByteBuffer buffer) {
+		if (buffer.remaining() < 10 || buffer.getInt() != MAGIC)
+			throw new IllegalArgumentException("Not a Lotus binary menu");
+		short version = buffer.getShort();
+		if (version > VERSION || version < 1)
+			throw new IllegalArgumentException("Unsupported Lotus binary menu version " + version + " (supported: " + VERSION + ")");
+
+		int tableLength = buffer.getInt();
+		int tableEnd = buffer.position() + tableLength;
+		String[] strings = new String[buffer.getInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = readUtf8(buffer, buffer.getInt());
+		}
+		buffer.position(tableEnd);
+
+		int bodyLength = buffer.getInt();
+		if (bodyLength > buffer.remaining())
+			throw new IllegalArgumentException("Truncated Lotus binary menu");
+
+		DataRegistry registry = new DataRegistry();
+		String name = string(strings, buffer.getInt());
+		registry.setData("name", name);
+		registry.setData("title", string(strings, buffer.getInt()));
+		Capacity capacity = Capacity.ofRows(buffer.getInt());
+		registry.setData("capacity", capacity);
+
+		Content content = Content.builder(capacity).build();
+		Set<String> unknownTags = new LinkedHashSet<>();
+		int buttons = buffer.getInt();
+		for (int i = 0; i < buttons; i++) {
+			int slot = buffer.getInt();
+			Object item = readValue(buffer, strings);
+
+			int actionsCount = buffer.getInt();
+			List<String> actions = new ArrayList<>(actionsCount);
+			for (int action = 0; action < actionsCount; action++) {
+				actions.add(string(strings, buffer.getInt()));
+			}
+			registry.setData("BTN:" + slot, actions);
+			content.setButton(slot, SerializedMenuYaml.loadButton(item instanceof ItemStack ? (ItemStack) item : null, actions, unknownTags));
+		}
+
+		if (!unknownTags.isEmpty() && logger != null) {
+			logger.warning("Menu '" + name + "' has actions with unknown tags " + unknownTags + ", they will be ignored");
+		}
+		registry.setData("content", content);
+		return registry;
+	}
+
+	private static @Nullable String string(String[] strings, int index) {
+		return index == -1 ? null : strings[index];
+	}
+
+	private static String readUtf8(ByteBuffer buffer, int length) {
+		if (buffer.hasArray()) {
+			String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+			buffer.position(buffer.position() + length);
+			return value;
+		}
+		byte[] bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeValue(DataOutputStream out, StringTable strings, @Nullable Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof String) {
+			out.writeByte(STRING);
+			out.writeInt(strings.indexOf((String) value));
+		} else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			out.writeByte(INT);
+			out.writeInt(((Number) value).intValue());
+		} else if (value instanceof Long) {
+			out.writeByte(LONG);
+			out.writeLong((Long) value);
+		} else if (value instanceof Number) {
+			out.writeByte(DOUBLE);
+			out.writeDouble(((Number) value).doubleValue());
+		} else if (value instanceof Boolean) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		} else if (value instanceof ConfigurationSerializable) {
+			ConfigurationSerializable serializable = (ConfigurationSerializable) value;
+			out.writeByte(SERIALIZABLE);
+			out.writeInt(strings.indexOf(ConfigurationSerialization.getAlias(serializable.getClass())));
+			writeMap(out, strings, serializable.serialize());
+		} else if (value instanceof Map) {
+			out.writeByte(MAP);
+			writeMap(out, strings, (Map<?, ?>) value);
+		} else if (value instanceof Iterable) {
+			List<Object> list = new ArrayList<>();
+			for (Object element : (Iterable<?>) value) list.add(element);
+			out.writeByte(LIST);
+			out.writeInt(list.size());
+			for (Object element : list) writeValue(out, strings, element);
+		} else if (value instanceof Character) {
+			out.writeByte(STRING);
+			out.writeInt(strings.indexOf(value.toString()));
+		} else {
+			throw new IllegalArgumentException("Cannot serialize a value of type " + value.getClass().getName());
+		}
+	}
+
+	private static void writeMap(DataOutputStream out, StringTable strings, Map<?, ?> map) throws IOException {
+		out.writeInt(map.size());
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			out.writeInt(strings.indexOf(String.valueOf(entry.getKey())));
+			writeValue(out, strings, entry.getValue());
+		}
+	}
+
+	private static @Nullable Object readValue(ByteBuffer buffer, String[] strings) {
+		byte type = buffer.get();
+		switch (type) {
+			case NULL:
+				return null;
+			case STRING:
+				return string(strings, buffer.getInt());
+			case INT:
+				return buffer.getInt();
+			case LONG:
+				return buffer.getLong();
+			case DOUBLE:
+				return buffer.getDouble();
+			case BOOLEAN:
+				return buffer.get() != 0;
+			case LIST: {
+				int size = buffer.getInt();
+				List<Object> list = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) list.add(readValue(buffer, strings));
+				return list;
+			}
+			case MAP:
+				return readMap(buffer, strings, new LinkedHashMap<>());
+			case SERIALIZABLE: {
+				Map<String, Object> map = new LinkedHashMap<>();
+				map.put(ConfigurationSerialization.SERIALIZED_TYPE_KEY, string(strings, buffer.getInt()));
+				return ConfigurationSerialization.deserializeObject(readMap(buffer, strings, map));
+			}
+			default:
+				throw new IllegalArgumentException("Unknown value type " + type + " in a Lotus binary menu");
+		}
+	}
+
+	private static Map<String, Object> readMap(ByteBuffer buffer, String[] strings, Map<String, Object> map) {
+		int size = buffer.getInt();
+		for (int i = 0; i < size; i++) {
+			String key = string(strings, buffer.getInt());
+			map.put(key, readValue(buffer, strings));
+		}
+		return map;
+	}
+
+	/**
+	 * The strings of a menu being written, each distinct string is stored once
+	 */
+	private static final class StringTable {
+
+		private final Map<String, Integer> indices = new LinkedHashMap<>();
+
+		int indexOf(@Nullable String value) {
+			if (value == null) return -1;
+			Integer index = indices.get(value);
+			if (index == null) {
+				index = indices.size();
+				indices.put(value, index);
+			}
+			return index;
+		}
+
+		byte[] encode() {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(indices.size() * 16 + 4);
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				out.writeInt(indices.size());
+				for (String value : indices.keySet()) {
+					byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+					out.writeInt(utf8.length);
+					out.write(utf8);
+				}
+			} catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+			return bytes.toByteArray();
+		}
+	}
+
+}
@@ -8,16 +8,34 @@ import io.github.mqzen.menus.misc.Slot;
 import io.github.mqzen.menus.misc.button.Button;
 import io.github.mqzen.menus.misc.button.actions.ButtonActionRegistry;
 import io.github.mqzen.menus.misc.button.actions.ButtonClickAction;
+import io.github.mqzen.menus.misc.button.actions.ButtonClickActions;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
 
 public final class SerializedMenuYaml implements SerializedMenuIO<YamlConfiguration> {
 	
+	private final @Nullable Logger logger;
+	
+	public SerializedMenuYaml() {
+		this(null);
+	}
+	
+	/**
+	 * @param logger the logger reporting the unknown action tags of the menus read
+	 */
+	public SerializedMenuYaml(@Nullable Logger logger) {
+		this.logger = logger;
+	}
 	
 	@Override
 	public Class<YamlConfiguration> fileType() {
@@ -74,23 +92,46 @@ public final class SerializedMenuYaml implements SerializedMenuIO<YamlConfigurat
 			return registry;
 		}
 		
+		Set<String> unknownTags = new LinkedHashSet<>();
 		for(String key : section.getKeys(false)) {
 			int slotPosition = section.getInt(key + ".slot");
 			ItemStack itemStack = section.getItemStack(key + ".item");
 			List<String> actions = section.getStringList(key + ".actions");
 			registry.setData("BTN:" + slotPosition, actions);
-			content.setButton(slotPosition, Button.clickable(itemStack,
-							ButtonClickAction.plain((menu, event)-> {
-				for(String action : actions) {
-					int index = action.indexOf("(");
-					String tag = action.substring(0, index);
-					ButtonClickAction clickAction = ButtonActionRegistry.getInstance().getAction(tag);
-					if(clickAction != null)
-						clickAction.execute(menu, event);
-				}
-			})));
+			
+			content.setButton(slotPosition, loadButton(itemStack, actions, unknownTags));
+		}
+		
+		if(!unknownTags.isEmpty() && logger != null) {
+			logger.warning("Menu '" + name + "' has actions with unknown tags " + unknownTags + ", they will be ignored");
 		}
 		registry.setData("content", content);
 		return registry;
 	}
+	
+	/**
+	 * Creates a loaded button, its serialized actions are resolved once,
+	 * so clicking the button doesn't parse or look up anything.
+	 *
+	 * @param unknownTags collects the tags of the actions that aren't registered
+	 */
+	static Button loadButton(@Nullable ItemStack itemStack, List<String> actions, Set<String> unknownTags) {
+		ButtonClickAction[] compiled = compileActions(actions, unknownTags);
+		return compiled.length == 0
+			? Button.empty(itemStack)
+			: Button.clickable(itemStack, ButtonClickActions.sequence(compiled));
+	}
+	
+	private static ButtonClickAction[] compileActions(List<String> actions, Set<String> unknownTags) {
+		List<ButtonClickAction> compiled = new ArrayList<>(actions.size());
+		for(String action : actions) {
+			ButtonClickAction clickAction = ButtonActionRegistry.getInstance().compile(action);
+			if(clickAction == null) {
+				unknownTags.add(ButtonActionRegistry.tagOf(action));
+				continue;
+			}
+			compiled.add(clickAction);
+		}
+		return compiled.toArray(new ButtonClickAction[0]);
+	}
 }
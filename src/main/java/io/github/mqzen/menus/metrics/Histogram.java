@@ -0,0 +1,133 @@
+package io.github.mqzen.menus.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values (e.g: nanoseconds, slot counts),
+ * recording a value costs a few striped additions, so it can be used on the main thread freely.
+ * <p>
+ * Values are counted in power-of-two buckets, bucket {@code i} holds the values
+ * in {@code [2^(i-1), 2^i)} (bucket 0 holds zero), so the percentiles
+ * of a {@link Snapshot} are upper bounds accurate within a factor of two.
+ * </p>
+ */
+public final class Histogram {
+
+	static final int BUCKETS = 65;
+
+	private final LongAdder[] buckets = new LongAdder[BUCKETS];
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+	Histogram() {
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Records a value, negative values are recorded as zero
+	 *
+	 * @param value the value to record
+	 */
+	public void record(long value) {
+		long recorded = Math.max(value, 0L);
+		buckets[64 - Long.numberOfLeadingZeros(recorded)].increment();
+		count.increment();
+		sum.add(recorded);
+		max.accumulate(recorded);
+	}
+
+	/**
+	 * @return the values recorded so far, values recorded while taking
+	 * the snapshot may or may not be included
+	 */
+	public Snapshot snapshot() {
+		long[] counts = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = buckets[i].sum();
+		}
+		return new Snapshot(counts, count.sum(), sum.sum(), max.get());
+	}
+
+	void reset() {
+		for (LongAdder bucket : buckets) {
+			bucket.reset();
+		}
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+
+	/**
+	 * An immutable copy of a {@link Histogram}
+	 */
+	@Getter
+	public static final class Snapshot {
+
+		static final Snapshot EMPTY = new Snapshot(new long[BUCKETS], 0L, 0L, 0L);
+
+		private final long count;
+		private final long sum;
+		private final long max;
+		private final long[] buckets;
+
+		Snapshot(long[] buckets, long count, long sum, long max) {
+			this.buckets = buckets;
+			this.count = count;
+			this.sum = sum;
+			this.max = max;
+		}
+
+		/**
+		 * @return the counts of the power-of-two buckets (see {@link Histogram}), it's a copy
+		 */
+		public long[] getBuckets() {
+			return buckets.clone();
+		}
+
+		/**
+		 * @return the mean of the recorded values, zero if there are none
+		 */
+		public double getMean() {
+			return count == 0L ? 0D : (double) sum / count;
+		}
+
+		/**
+		 * @param percentile the percentile, between 0 and 100
+		 * @return an upper bound of the value at that percentile, never above {@link #getMax()}
+		 */
+		public long getPercentile(double percentile) {
+			long total = 0L;
+			for (long bucketCount : buckets) {
+				total += bucketCount;
+			}
+			if (total == 0L) return 0L;
+
+			long rank = (long) Math.ceil(total * Math.min(Math.max(percentile, 0D), 100D) / 100D);
+			long seen = 0L;
+			for (int i = 0; i < buckets.length; i++) {
+				seen += buckets[i];
+				if (seen >= rank && seen > 0L) {
+					long upperBound = i == 0 ? 0L : (i >= 64 ? Long.MAX_VALUE : (1L << i) - 1L);
+					return Math.min(upperBound, max);
+				}
+			}
+			return max;
+		}
+
+		@Override
+		public String toString() {
+			return "count=" + count
+				+ ", mean=" + String.format("%.1f", getMean())
+				+ ", p50=" + getPercentile(50D)
+				+ ", p99=" + getPercentile(99D)
+				+ ", max=" + max;
+		}
+	}
+
+}
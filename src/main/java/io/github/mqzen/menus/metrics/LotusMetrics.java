@@ -0,0 +1,162 @@
+package io.github.mqzen.menus.metrics;
+
+import io.github.mqzen.menus.misc.button.actions.ButtonClickAction;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * The metrics of a {@link io.github.mqzen.menus.Lotus} instance, recorded by the API itself
+ * into lock-free {@link Histogram}s, so recording costs nanoseconds on the main thread.
+ * <p>
+ * Plugins poll them through {@link #snapshot()}, e.g: to find out which menu
+ * takes the most time to open or which button actions are slow.
+ * Durations are recorded in nanoseconds.
+ * </p>
+ */
+public final class LotusMetrics {
+
+	/**
+	 * The key of clicks on slots without a button action
+	 */
+	public static final String NO_ACTION = "<none>";
+
+	/**
+	 * The key of clicks on button actions without a tag (e.g: {@link ButtonClickAction#plain(ButtonClickAction.ActionExecutor)})
+	 */
+	public static final String PLAIN_ACTION = "<plain>";
+
+	private final EnumMap<OpenPhase, Histogram> openPhases = new EnumMap<>(OpenPhase.class);
+	private final ConcurrentHashMap<String, Histogram> menuOpens = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Histogram> clicks = new ConcurrentHashMap<>();
+	private final Histogram flushedSlots = new Histogram();
+	private final Histogram syncFramesPerTick = new Histogram();
+	private final Histogram asyncFramesPerRun = new Histogram();
+	private final Histogram paginationBuilds = new Histogram();
+	private final IntSupplier openViews;
+
+	/**
+	 * @param openViews the supplier of the number of open views
+	 */
+	public LotusMetrics(IntSupplier openViews) {
+		this.openViews = openViews;
+		//filled once, so the map is only read afterwards
+		for (OpenPhase phase : OpenPhase.values()) {
+			openPhases.put(phase, new Histogram());
+		}
+	}
+
+	/**
+	 * @param phase the phase of opening a view
+	 * @param nanos the time the phase took
+	 */
+	public void recordOpenPhase(OpenPhase phase, long nanos) {
+		openPhases.get(phase).record(nanos);
+	}
+
+	/**
+	 * @param menuName the name of the opened menu
+	 * @param nanos the time opening the view of the menu took, from initializing it to scheduling its animations
+	 */
+	public void recordOpen(String menuName, long nanos) {
+		histogramOf(menuOpens, menuName == null ? "" : menuName).record(nanos);
+	}
+
+	/**
+	 * @param action the action of the clicked button, null if it has none
+	 * @param nanos the time dispatching the click took
+	 */
+	public void recordClick(@Nullable ButtonClickAction action, long nanos) {
+		histogramOf(clicks, keyOf(action)).record(nanos);
+	}
+
+	/**
+	 * @param slots the number of slots written to an inventory by a single flush
+	 */
+	public void recordFlush(int slots) {
+		flushedSlots.record(slots);
+	}
+
+	/**
+	 * @param frames the number of synchronous animation frames applied by a single tick of the animation engine
+	 */
+	public void recordSyncFrames(int frames) {
+		syncFramesPerTick.record(frames);
+	}
+
+	/**
+	 * @param frames the number of asynchronous animation frames applied by a single run of the update task
+	 */
+	public void recordAsyncFrames(int frames) {
+		asyncFramesPerRun.record(frames);
+	}
+
+	/**
+	 * @param nanos the time building a single page of a pagination took
+	 */
+	public void recordPaginationBuild(long nanos) {
+		paginationBuilds.record(nanos);
+	}
+
+	/**
+	 * @return the metrics recorded so far
+	 */
+	public MetricsSnapshot snapshot() {
+		EnumMap<OpenPhase, Histogram.Snapshot> phases = new EnumMap<>(OpenPhase.class);
+		for (Map.Entry<OpenPhase, Histogram> entry : openPhases.entrySet()) {
+			phases.put(entry.getKey(), entry.getValue().snapshot());
+		}
+		return new MetricsSnapshot(
+			System.currentTimeMillis(),
+			openViews.getAsInt(),
+			Collections.unmodifiableMap(phases),
+			snapshotOf(menuOpens),
+			snapshotOf(clicks),
+			flushedSlots.snapshot(),
+			syncFramesPerTick.snapshot(),
+			asyncFramesPerRun.snapshot(),
+			paginationBuilds.snapshot()
+		);
+	}
+
+	/**
+	 * Discards everything recorded so far, values recorded while resetting may be lost
+	 */
+	public void reset() {
+		for (Histogram histogram : openPhases.values()) {
+			histogram.reset();
+		}
+		menuOpens.clear();
+		clicks.clear();
+		flushedSlots.reset();
+		syncFramesPerTick.reset();
+		asyncFramesPerRun.reset();
+		paginationBuilds.reset();
+	}
+
+	private static String keyOf(@Nullable ButtonClickAction action) {
+		if (action == null) return NO_ACTION;
+		String tag = action.tag();
+		return tag == null || tag.isEmpty() ? PLAIN_ACTION : tag;
+	}
+
+	private static Histogram histogramOf(ConcurrentHashMap<String, Histogram> histograms, String key) {
+		//a plain read first, computeIfAbsent may lock even when the key is present
+		Histogram histogram = histograms.get(key);
+		return histogram != null ? histogram : histograms.computeIfAbsent(key, (k) -> new Histogram());
+	}
+
+	private static Map<String, Histogram.Snapshot> snapshotOf(Map<String, Histogram> histograms) {
+		Map<String, Histogram.Snapshot> snapshots = new HashMap<>(histograms.size());
+		for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+			snapshots.put(entry.getKey(), entry.getValue().snapshot());
+		}
+		return Collections.unmodifiableMap(snapshots);
+	}
+
+}
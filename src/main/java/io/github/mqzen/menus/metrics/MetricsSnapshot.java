@@ -0,0 +1,98 @@
+package io.github.mqzen.menus.metrics;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable copy of the {@link LotusMetrics} taken at {@link #getTimestamp()},
+ * durations are in nanoseconds.
+ */
+@Getter
+public final class MetricsSnapshot {
+
+	/**
+	 * The time the snapshot was taken at, in milliseconds since the epoch
+	 */
+	private final long timestamp;
+
+	/**
+	 * The number of open views
+	 */
+	private final int openViews;
+
+	/**
+	 * The time of each phase of opening a view
+	 */
+	private final Map<OpenPhase, Histogram.Snapshot> openPhases;
+
+	/**
+	 * The total time of opening a view, by the name of the menu
+	 */
+	private final Map<String, Histogram.Snapshot> menuOpens;
+
+	/**
+	 * The time of dispatching a click, by the tag of the clicked button's action
+	 * (see {@link LotusMetrics#NO_ACTION} and {@link LotusMetrics#PLAIN_ACTION})
+	 */
+	private final Map<String, Histogram.Snapshot> clicks;
+
+	/**
+	 * The number of slots written by each flush that wrote any
+	 */
+	private final Histogram.Snapshot flushedSlots;
+
+	/**
+	 * The number of synchronous animation frames applied by each tick of the animation engine that applied any
+	 */
+	private final Histogram.Snapshot syncFramesPerTick;
+
+	/**
+	 * The number of asynchronous animation frames applied by each run of the update task that applied any
+	 */
+	private final Histogram.Snapshot asyncFramesPerRun;
+
+	/**
+	 * The time of building a single page of a pagination
+	 */
+	private final Histogram.Snapshot paginationBuilds;
+
+	MetricsSnapshot(long timestamp, int openViews,
+	                Map<OpenPhase, Histogram.Snapshot> openPhases,
+	                Map<String, Histogram.Snapshot> menuOpens,
+	                Map<String, Histogram.Snapshot> clicks,
+	                Histogram.Snapshot flushedSlots,
+	                Histogram.Snapshot syncFramesPerTick,
+	                Histogram.Snapshot asyncFramesPerRun,
+	                Histogram.Snapshot paginationBuilds) {
+		this.timestamp = timestamp;
+		this.openViews = openViews;
+		this.openPhases = openPhases;
+		this.menuOpens = menuOpens;
+		this.clicks = clicks;
+		this.flushedSlots = flushedSlots;
+		this.syncFramesPerTick = syncFramesPerTick;
+		this.asyncFramesPerRun = asyncFramesPerRun;
+		this.paginationBuilds = paginationBuilds;
+	}
+
+	/**
+	 * @param phase the phase of opening a view
+	 * @return the time of that phase
+	 */
+	public Histogram.Snapshot getOpenPhase(OpenPhase phase) {
+		return openPhases.getOrDefault(phase, Histogram.Snapshot.EMPTY);
+	}
+
+	/**
+	 * @return the names of the opened menus, sorted by the total time spent opening them, the most expensive first
+	 */
+	public List<String> getMenusByOpenTime() {
+		List<String> names = new ArrayList<>(menuOpens.keySet());
+		names.sort((first, second) -> Long.compare(menuOpens.get(second).getSum(), menuOpens.get(first).getSum()));
+		return names;
+	}
+
+}
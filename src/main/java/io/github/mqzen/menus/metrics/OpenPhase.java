@@ -0,0 +1,37 @@
+package io.github.mqzen.menus.metrics;
+
+/**
+ * The phases of opening a menu view, each one is timed separately by {@link LotusMetrics}.
+ * <p>
+ * The {@link #RENDER} and {@link #OPEN_INVENTORY} phases are only timed by the
+ * default opener, custom openers only contribute to the total open time of the menu.
+ * </p>
+ */
+public enum OpenPhase {
+
+	/**
+	 * Resolving the title of the menu
+	 */
+	TITLE,
+
+	/**
+	 * Resolving the capacity of the menu
+	 */
+	CAPACITY,
+
+	/**
+	 * Building the content of the menu (or overlaying its template)
+	 */
+	CONTENT,
+
+	/**
+	 * Creating the inventory and writing the items of the content into it
+	 */
+	RENDER,
+
+	/**
+	 * Opening the created inventory for the player
+	 */
+	OPEN_INVENTORY
+
+}
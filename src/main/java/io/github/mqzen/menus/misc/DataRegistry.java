@@ -18,6 +18,18 @@ public final class DataRegistry {
 	public static DataRegistry empty() {
 		return new DataRegistry();
 	}
+
+	/**
+	 * Creates a copy of this data registry, holding the same key-value pairs,
+	 * the values themselves are not copied.
+	 *
+	 * @return A new instance of DataRegistry with the key-value pairs of this one.
+	 */
+	public DataRegistry copy() {
+		DataRegistry copy = new DataRegistry();
+		copy.objectMap.putAll(objectMap);
+		return copy;
+	}
 	
 	/**
 	 * Associates the specified object with the given key in the data registry.
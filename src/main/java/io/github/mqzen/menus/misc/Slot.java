@@ -1,6 +1,5 @@
 package io.github.mqzen.menus.misc;
 
-import com.google.common.base.Objects;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 
@@ -11,17 +10,31 @@ import org.jetbrains.annotations.NotNull;
  * This class provides methods to create and manipulate slots using their slot numbers or
  * their row and column coordinates.
  * </p>
+ * <p>
+ * Slots inside the grid of a chest (6 rows of 9 columns) are interned, so {@link #of(int)}
+ * and {@link #of(int, int)} return the same shared instance for the same position
+ * and no new object is created for them.
+ * </p>
  */
 @Getter
 public final class Slot implements Comparable<Slot> {
 	
 	private final static int WIDTH = 9;
+	private final static int MAX_ROWS = 6;
+	
+	private final static Slot[] SLOTS = new Slot[MAX_ROWS * WIDTH];
+	
+	static {
+		for (int slot = 0; slot < SLOTS.length; slot++) {
+			SLOTS[slot] = new Slot(slot);
+		}
+	}
 	
 	private final int slot, row, column;
 	
 	private Slot(int slot) {
 		this.slot = slot;
-		this.row = (int) Math.floor((float) (slot / WIDTH));
+		this.row = slot / WIDTH;
 		this.column = slot % WIDTH;
 	}
 	
@@ -32,17 +45,24 @@ public final class Slot implements Comparable<Slot> {
 	}
 	
 	public static Slot of(int slot) {
+		if (slot >= 0 && slot < SLOTS.length) return SLOTS[slot];
 		return new Slot(slot);
 	}
 	
 	public static Slot of(int row, int column) {
+		//the row-column grid maps directly onto the interned slots, as long as the column doesn't wrap
+		if (row >= 0 && row < MAX_ROWS && column >= 0 && column < WIDTH) return SLOTS[row * WIDTH + column];
 		return new Slot(row, column);
 	}
 	
 	public static Slot last(Capacity capacity) {
-		return new Slot(capacity.getTotalSize() - 1);
+		return of(capacity.getTotalSize() - 1);
 	}
 	
+	/**
+	 * Interned slots are compared by identity,
+	 * slots outside the interned grid fall back to comparing their slot numbers.
+	 */
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
@@ -53,7 +73,7 @@ public final class Slot implements Comparable<Slot> {
 	
 	@Override
 	public int hashCode() {
-		return Objects.hashCode(slot);
+		return slot;
 	}
 	
 	public Slot subtractBy(int num) {
@@ -65,8 +85,13 @@ public final class Slot implements Comparable<Slot> {
 		return this.slot - o.slot;
 	}
 
+	/**
+	 * Slots are immutable, so there's no need to actually copy them.
+	 *
+	 * @return this slot
+	 */
 	public Slot copy() {
-		return new Slot(slot);
+		return this;
 	}
 
 	@Override
@@ -0,0 +1,94 @@
+package io.github.mqzen.menus.misc;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+/**
+ * A thread-safe bitmask of slot numbers, one bit per slot.
+ * <p>
+ * Marking a slot is a single CAS on the word holding its bit,
+ * and draining takes every word atomically, so a slot marked
+ * while draining is either drained now or kept for the next drain, never lost.
+ * </p>
+ */
+public final class SlotMask {
+
+	private final AtomicLongArray words;
+	private final int size;
+
+	public SlotMask(int size) {
+		this.size = size;
+		this.words = new AtomicLongArray((size + 63) >>> 6);
+	}
+
+	/**
+	 * @return the number of slots this mask covers
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Marks a slot
+	 *
+	 * @param slot the slot number
+	 * @return false if the slot is outside the mask or was already marked
+	 */
+	public boolean mark(int slot) {
+		if (slot < 0 || slot >= size) return false;
+		int index = slot >>> 6;
+		long bit = 1L << slot;
+		while (true) {
+			long word = words.get(index);
+			if ((word & bit) != 0) return false;
+			if (words.compareAndSet(index, word, word | bit)) return true;
+		}
+	}
+
+	/**
+	 * @param slot the slot number
+	 * @return whether the slot is currently marked
+	 */
+	public boolean isMarked(int slot) {
+		return slot >= 0 && slot < size && (words.get(slot >>> 6) & (1L << slot)) != 0;
+	}
+
+	/**
+	 * @return whether no slot is marked
+	 */
+	public boolean isEmpty() {
+		for (int i = 0; i < words.length(); i++) {
+			if (words.get(i) != 0) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Unmarks every slot and passes each of them to the consumer, in ascending order
+	 *
+	 * @param consumer the consumer of the marked slots
+	 * @return the number of slots that were marked
+	 */
+	public int drain(IntConsumer consumer) {
+		int drained = 0;
+		for (int i = 0; i < words.length(); i++) {
+			long word = words.getAndSet(i, 0L);
+			while (word != 0) {
+				consumer.accept((i << 6) + Long.numberOfTrailingZeros(word));
+				word &= word - 1;
+				drained++;
+			}
+		}
+		return drained;
+	}
+
+	/**
+	 * Unmarks every slot
+	 */
+	public void clear() {
+		for (int i = 0; i < words.length(); i++) {
+			words.set(i, 0L);
+		}
+	}
+
+}
@@ -140,6 +140,21 @@ public class Button {
 	public Button copy() {
 		return new Button(this.item, this.action, this.data);
 	}
+
+	/**
+	 * Creates a copy of the current Button instance that shares nothing mutable with it,
+	 * the item is cloned and the data registry is copied, so modifying the copy never affects this button.
+	 * Buttons that are not copyable (e.g. animated buttons) are returned as they are.
+	 *
+	 * @return A new Button instance with a clone of the item and a copy of the data of this Button.
+	 */
+	public Button deepCopy() {
+		Button copy = copy();
+		if (copy == this) return this;
+		if (copy.item != null) copy.item = copy.item.clone();
+		copy.data = copy.data.copy();
+		return copy;
+	}
 	
 	/**
 	 * Sets a named piece of data associated with this button.
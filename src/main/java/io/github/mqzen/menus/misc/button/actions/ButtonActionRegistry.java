@@ -4,6 +4,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Matcher;
 
 /**
  * The ButtonActionRegistry class manages the registration and retrieval of button click actions.
@@ -28,6 +29,7 @@ public final class ButtonActionRegistry {
 	private final Map<String, ButtonClickAction> actions = new HashMap<>();
 	private ButtonActionRegistry() {
 		registerAction(ButtonClickActions.CLOSE_MENU);
+		registerAction(ButtonClickActions.OPEN_MENU);
 	}
 	
 	/**
@@ -50,4 +52,29 @@ public final class ButtonActionRegistry {
 		return actions.get(tag);
 	}
 	
+	/**
+	 * Resolves a serialized action (e.g: "OPEN(menu)" or "CLOSE") into
+	 * the registered action of its tag, bound to its argument.
+	 *
+	 * @param rawAction the serialized action
+	 * @return the compiled action, or null if no action is registered with its tag
+	 * @see ButtonClickAction#compile(String)
+	 */
+	public @Nullable ButtonClickAction compile(String rawAction) {
+		ButtonClickAction action = getAction(tagOf(rawAction));
+		if (action == null) return null;
+		
+		Matcher matcher = ButtonClickAction.PATTERN.matcher(rawAction);
+		return action.compile(matcher.find() ? matcher.group(1) : null);
+	}
+	
+	/**
+	 * @param rawAction the serialized action
+	 * @return the tag of the action, which is what comes before the parentheses
+	 */
+	public static String tagOf(String rawAction) {
+		int index = rawAction.indexOf('(');
+		return (index == -1 ? rawAction : rawAction.substring(0, index)).trim();
+	}
+	
 }
@@ -68,6 +68,18 @@ public interface ButtonClickAction {
      */
     void execute(MenuView<?> menu, InventoryClickEvent event);
 
+    /**
+     * Binds the argument of a serialized action (e.g: the "menu" in "OPEN(menu)") to this action,
+     * it's called once when the action is loaded, so that the returned action
+     * doesn't need to parse anything when it's executed.
+     *
+     * @param argument the argument inside the parentheses, or null if there's none
+     * @return the action to execute with that argument, this action by default
+     */
+    default ButtonClickAction compile(@Nullable String argument) {
+        return this;
+    }
+
     /**
      * Checks if a given action string matches the current action based on its tag.
      *
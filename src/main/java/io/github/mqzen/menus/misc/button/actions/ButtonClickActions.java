@@ -1,5 +1,6 @@
 package io.github.mqzen.menus.misc.button.actions;
 
+import io.github.mqzen.menus.misc.button.actions.impl.ActionSequence;
 import io.github.mqzen.menus.misc.button.actions.impl.CloseMenuAction;
 import io.github.mqzen.menus.misc.button.actions.impl.OpenMenuAction;
 
@@ -16,7 +17,21 @@ public final class ButtonClickActions {
     
     public final static ButtonClickAction CLOSE_MENU = new CloseMenuAction();
     
+    /**
+     * The prototype of {@link OpenMenuAction} registered for serialized actions,
+     * its menu name is bound through {@link ButtonClickAction#compile(String)}
+     */
+    public final static ButtonClickAction OPEN_MENU = new OpenMenuAction(null);
+    
     public static ButtonClickAction openMenu(String menuName) {
         return new OpenMenuAction(menuName);
     }
+    
+    /**
+     * @param actions the actions to execute in order
+     * @return an action executing all the given actions in order
+     */
+    public static ButtonClickAction sequence(ButtonClickAction... actions) {
+        return actions.length == 1 ? actions[0] : new ActionSequence(actions);
+    }
 }
@@ -0,0 +1,56 @@
+package io.github.mqzen.menus.misc.button.actions.impl;
+
+import io.github.mqzen.menus.base.MenuView;
+import io.github.mqzen.menus.misc.button.actions.ButtonClickAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+
+import java.util.StringJoiner;
+
+/**
+ * Executes a fixed sequence of already compiled actions in order,
+ * it's what serialized buttons with multiple actions are loaded into.
+ *
+ * @see io.github.mqzen.menus.misc.button.actions.ButtonClickActions#sequence(ButtonClickAction...)
+ */
+public final class ActionSequence implements ButtonClickAction {
+
+    private final ButtonClickAction[] actions;
+    private final String tag;
+
+    public ActionSequence(ButtonClickAction[] actions) {
+        this.actions = actions.clone();
+        //the joined tags of the actions (e.g: "CLOSE,OPEN"), so that clicks on a sequence are told apart in the metrics
+        StringJoiner joiner = new StringJoiner(",");
+        for (ButtonClickAction action : this.actions) {
+            joiner.add(action.tag());
+        }
+        this.tag = joiner.toString();
+    }
+
+    /**
+     * @return the number of actions in the sequence
+     */
+    public int size() {
+        return actions.length;
+    }
+
+    /**
+     * @param index the index of the action
+     * @return the action at the index in the sequence
+     */
+    public ButtonClickAction get(int index) {
+        return actions[index];
+    }
+
+    @Override
+    public String tag() {
+        return tag;
+    }
+
+    @Override
+    public void execute(MenuView<?> menu, InventoryClickEvent event) {
+        for (ButtonClickAction action : actions) {
+            action.execute(menu, event);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import io.github.mqzen.menus.base.MenuView;
 import io.github.mqzen.menus.misc.button.actions.ButtonClickAction;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Defines an action to open menus based on a registered menu name
@@ -22,6 +23,11 @@ public final class OpenMenuAction implements ButtonClickAction {
         return "OPEN";
     }
     
+    @Override
+    public ButtonClickAction compile(@Nullable String argument) {
+        return argument == null ? this : new OpenMenuAction(argument);
+    }
+    
     @Override
     public void execute(MenuView<?> view, InventoryClickEvent event) {
         view.getAPI().getRegisteredMenu(toOpen)
@@ -6,10 +6,10 @@ import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 /**
  * An abstract builder class for creating and modifying ItemStack objects with a fluent API.
@@ -72,8 +72,7 @@ public abstract class ItemBuilder<T, B extends ItemBuilder<T, B>> {
 	 * @return the current instance of the builder for method chaining.
 	 */
 	public B setLore(T... lore) {
-		itemMeta.setLore(Arrays.stream(lore).map(this::toString).collect(Collectors.toList()));
-		return (B) this;
+		return setLore(Arrays.asList(lore));
 	}
 	
 	/**
@@ -83,7 +82,11 @@ public abstract class ItemBuilder<T, B extends ItemBuilder<T, B>> {
 	 * @return The current instance of the item builder for method chaining.
 	 */
 	public B setLore(List<T> lore) {
-		itemMeta.setLore(lore.stream().map(this::toString).collect(Collectors.toList()));
+		List<String> lines = new ArrayList<>(lore.size());
+		for (T line : lore) {
+			lines.add(toString(line));
+		}
+		itemMeta.setLore(lines);
 		return (B) this;
 	}
 
@@ -148,6 +151,17 @@ public abstract class ItemBuilder<T, B extends ItemBuilder<T, B>> {
 		return itemStack;
 	}
 
+	/**
+	 * Builds the item once into an immutable template, so items that never change
+	 * are built a single time and then only cloned, instead of being built on every open.
+	 *
+	 * @return the template of the built item, shared with every equal item
+	 * @see ItemTemplate#of(ItemStack)
+	 */
+	public final ItemTemplate toTemplate() {
+		return ItemTemplate.of(build());
+	}
+
 	public static LegacyItemBuilder legacy(ItemStack itemStack) {
 		return new LegacyItemBuilder(itemStack);
 	}
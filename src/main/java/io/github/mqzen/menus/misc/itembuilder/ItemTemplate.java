@@ -0,0 +1,84 @@
+package io.github.mqzen.menus.misc.itembuilder;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An immutable, fully built item, the text conversion and the meta construction
+ * are done once by the builder, so {@link #create()} only clones the built item.
+ * <p>
+ * Templates are content-addressed, {@link #of(ItemStack)} returns the same template
+ * for items that are equal (same type, amount, durability and meta),
+ * so identical items across menus share one template.
+ * Templates that aren't referenced anymore are garbage collected.
+ * </p>
+ *
+ * @see ItemBuilder#toTemplate()
+ */
+public final class ItemTemplate {
+
+	private static final Interner<ItemTemplate> TEMPLATES = Interners.newWeakInterner();
+
+	private final ItemStack prototype;
+	private final int hash;
+
+	private ItemTemplate(ItemStack prototype) {
+		this.prototype = prototype;
+		this.hash = prototype.hashCode();
+	}
+
+	/**
+	 * @param item the item, it's copied so later changes to it aren't reflected
+	 * @return the template of the item, shared with every equal item
+	 */
+	public static ItemTemplate of(@NotNull ItemStack item) {
+		return TEMPLATES.intern(new ItemTemplate(item.clone()));
+	}
+
+	/**
+	 * @return a new copy of the item, free to be modified
+	 */
+	public ItemStack create() {
+		return prototype.clone();
+	}
+
+	/**
+	 * @param amount the amount of the copy
+	 * @return a new copy of the item with that amount
+	 */
+	public ItemStack create(int amount) {
+		ItemStack item = prototype.clone();
+		item.setAmount(amount);
+		return item;
+	}
+
+	public Material getType() {
+		return prototype.getType();
+	}
+
+	public int getAmount() {
+		return prototype.getAmount();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof ItemTemplate)) return false;
+		ItemTemplate other = (ItemTemplate) obj;
+		return hash == other.hash && prototype.equals(other.prototype);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return "ItemTemplate{" + prototype + "}";
+	}
+
+}
@@ -0,0 +1,81 @@
+package io.github.mqzen.menus.misc.placeholder;
+
+import io.github.mqzen.menus.misc.DataRegistry;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An item whose display name or lore has placeholders, compiled once,
+ * rendering it for a viewer copies the item and renders only the texts having placeholders.
+ * The compiled item is never modified.
+ */
+public final class PlaceholderItem {
+	
+	private final ItemStack prototype;
+	private final @Nullable PlaceholderText display;
+	//null entries are lore lines without placeholders, they're kept as they are
+	private final @Nullable PlaceholderText[] lore;
+	
+	private PlaceholderItem(ItemStack prototype, @Nullable PlaceholderText display, @Nullable PlaceholderText[] lore) {
+		this.prototype = prototype;
+		this.display = display;
+		this.lore = lore;
+	}
+	
+	/**
+	 * @param item the item to compile, it's copied
+	 * @return the compiled item, or null if its display name and lore have no placeholders
+	 */
+	public static @Nullable PlaceholderItem compile(@Nullable ItemStack item) {
+		if (item == null || !item.hasItemMeta()) return null;
+		ItemMeta meta = item.getItemMeta();
+		
+		PlaceholderText display = null;
+		if (meta.hasDisplayName()) {
+			PlaceholderText compiled = PlaceholderText.compile(meta.getDisplayName());
+			if (compiled.hasPlaceholders()) display = compiled;
+		}
+		
+		PlaceholderText[] lore = null;
+		List<String> lines = meta.hasLore() ? meta.getLore() : null;
+		if (lines != null) {
+			for (int i = 0; i < lines.size(); i++) {
+				PlaceholderText compiled = PlaceholderText.compile(lines.get(i));
+				if (!compiled.hasPlaceholders()) continue;
+				if (lore == null) lore = new PlaceholderText[lines.size()];
+				lore[i] = compiled;
+			}
+		}
+		
+		if (display == null && lore == null) return null;
+		return new PlaceholderItem(item.clone(), display, lore);
+	}
+	
+	/**
+	 * @param viewer    the player viewing the item
+	 * @param extraData the extra data of the menu view
+	 * @return a new copy of the item with its placeholders resolved
+	 */
+	public ItemStack render(Player viewer, DataRegistry extraData) {
+		ItemStack item = prototype.clone();
+		ItemMeta meta = item.getItemMeta();
+		if (display != null) {
+			meta.setDisplayName(display.render(viewer, extraData));
+		}
+		if (lore != null) {
+			List<String> lines = new ArrayList<>(meta.getLore());
+			for (int i = 0; i < lore.length && i < lines.size(); i++) {
+				if (lore[i] != null) lines.set(i, lore[i].render(viewer, extraData));
+			}
+			meta.setLore(lines);
+		}
+		item.setItemMeta(meta);
+		return item;
+	}
+	
+}
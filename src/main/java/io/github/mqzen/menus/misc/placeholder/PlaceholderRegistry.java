@@ -0,0 +1,63 @@
+package io.github.mqzen.menus.misc.placeholder;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The PlaceholderRegistry class manages the resolvers of the placeholders (e.g: {@code <player>})
+ * used in the texts of serialized menus (see {@link PlaceholderText}), it's safe to be accessed from any thread.
+ * <p>
+ * Placeholders are written as {@code <name>} and registered by their name,
+ * the {@code <player>} placeholder (the name of the viewer) is registered by default.
+ * </p>
+ */
+public final class PlaceholderRegistry {
+	
+	private static PlaceholderRegistry registry;
+	
+	private final Map<String, PlaceholderResolver> resolvers = new ConcurrentHashMap<>();
+	
+	private PlaceholderRegistry() {
+		register("player", (viewer, extraData) -> viewer == null ? null : viewer.getName());
+	}
+	
+	/**
+	 * Returns the singleton instance of the PlaceholderRegistry class.
+	 *
+	 * @return The singleton instance of PlaceholderRegistry.
+	 */
+	public static synchronized PlaceholderRegistry getInstance() {
+		if (registry == null) {
+			registry = new PlaceholderRegistry();
+		}
+		return registry;
+	}
+	
+	/**
+	 * Registers a resolver, replacing the previous resolver of the placeholder if any
+	 *
+	 * @param name     the name of the placeholder, without the angle brackets (e.g: "balance" for {@code <balance>})
+	 * @param resolver the resolver of the placeholder
+	 */
+	public void register(String name, PlaceholderResolver resolver) {
+		resolvers.put(name.toLowerCase(), resolver);
+	}
+	
+	/**
+	 * @param name the name of the placeholder
+	 */
+	public void unregister(String name) {
+		resolvers.remove(name.toLowerCase());
+	}
+	
+	/**
+	 * @param name the name of the placeholder, lowercase
+	 * @return the resolver of the placeholder, or null if it's not registered
+	 */
+	public @Nullable PlaceholderResolver getResolver(String name) {
+		return resolvers.get(name);
+	}
+	
+}
@@ -0,0 +1,22 @@
+package io.github.mqzen.menus.misc.placeholder;
+
+import io.github.mqzen.menus.misc.DataRegistry;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Resolves the value of a placeholder for a viewer of a menu
+ *
+ * @see PlaceholderRegistry
+ */
+@FunctionalInterface
+public interface PlaceholderResolver {
+	
+	/**
+	 * @param viewer    the player viewing the menu
+	 * @param extraData the extra data of the menu view
+	 * @return the value of the placeholder, or null to keep the placeholder as it is
+	 */
+	@Nullable String resolve(Player viewer, DataRegistry extraData);
+	
+}
@@ -0,0 +1,175 @@
+package io.github.mqzen.menus.misc.placeholder;
+
+import io.github.mqzen.menus.misc.DataRegistry;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A text compiled once into its fixed segments and the placeholders between them,
+ * so rendering it only resolves the placeholders and splices them in.
+ * It's the placeholder syntax of the whole library, used by the items of serialized menus
+ * and by {@link io.github.mqzen.menus.titles.TitleTemplate title templates}.
+ * <p>
+ * Any {@code <name>} token is compiled as a placeholder, they're either resolved through the
+ * {@link PlaceholderRegistry} (by their name in lowercase), so resolvers registered after compiling are used too,
+ * or through a function given the name as it's written.
+ * Placeholders without a value are kept as they're written.
+ * </p>
+ */
+public final class PlaceholderText {
+	
+	private final String text;
+	private final String[] segments;
+	private final String[] names;
+	//the names in lowercase, to look the resolvers up
+	private final String[] keys;
+	private final int fixedLength;
+	
+	private PlaceholderText(String text, String[] segments, String[] names) {
+		this.text = text;
+		this.segments = segments;
+		this.names = names;
+		this.keys = new String[names.length];
+		for (int i = 0; i < names.length; i++) {
+			keys[i] = names[i].toLowerCase();
+		}
+		int length = 0;
+		for (String segment : segments) {
+			length += segment.length();
+		}
+		this.fixedLength = length;
+	}
+	
+	/**
+	 * @param text the text to compile
+	 * @return the compiled text
+	 */
+	public static PlaceholderText compile(String text) {
+		List<String> segments = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+	
+		int segmentStart = 0;
+		int open = text.indexOf('<');
+		while (open != -1) {
+			int close = text.indexOf('>', open + 1);
+			if (close == -1) break;
+	
+			String name = text.substring(open + 1, close);
+			if (!isPlaceholderName(name)) {
+				open = text.indexOf('<', open + 1);
+				continue;
+			}
+			segments.add(text.substring(segmentStart, open));
+			names.add(name);
+			segmentStart = close + 1;
+			open = text.indexOf('<', segmentStart);
+		}
+		segments.add(text.substring(segmentStart));
+		return new PlaceholderText(text, segments.toArray(new String[0]), names.toArray(new String[0]));
+	}
+	
+	private static boolean isPlaceholderName(String name) {
+		if (name.isEmpty()) return false;
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.' && c != ':') return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * @return whether the text has any placeholder, texts without placeholders render as they are
+	 */
+	public boolean hasPlaceholders() {
+		return names.length > 0;
+	}
+	
+	/**
+	 * @return the names of the placeholders as they're written, in their order of appearance, a name may repeat
+	 */
+	public List<String> getPlaceholders() {
+		return Collections.unmodifiableList(Arrays.asList(names));
+	}
+	
+	/**
+	 * Resolves the value of every placeholder through the {@link PlaceholderRegistry}
+	 *
+	 * @param viewer    the player viewing the text
+	 * @param extraData the extra data of the menu view
+	 * @return the values of the placeholders in their order of appearance, see {@link #splice(String[])}
+	 */
+	public String[] resolve(Player viewer, DataRegistry extraData) {
+		PlaceholderRegistry registry = PlaceholderRegistry.getInstance();
+		String[] values = new String[names.length];
+		for (int i = 0; i < names.length; i++) {
+			PlaceholderResolver resolver = registry.getResolver(keys[i]);
+			String value = resolver == null ? null : resolver.resolve(viewer, extraData);
+			values[i] = value == null ? tokenOf(i) : value;
+		}
+		return values;
+	}
+	
+	/**
+	 * @param resolver resolves the value of a placeholder by its name as it's written, null keeps the placeholder as it is
+	 * @return the values of the placeholders in their order of appearance, see {@link #splice(String[])}
+	 */
+	public String[] resolve(Function<String, ?> resolver) {
+		String[] values = new String[names.length];
+		for (int i = 0; i < names.length; i++) {
+			Object value = resolver.apply(names[i]);
+			values[i] = value == null ? tokenOf(i) : String.valueOf(value);
+		}
+		return values;
+	}
+	
+	private String tokenOf(int index) {
+		return "<" + names[index] + ">";
+	}
+	
+	/**
+	 * @param values the values of the placeholders in their order of appearance, inserted as they are
+	 * @return the text with the values between its segments
+	 */
+	public String splice(String[] values) {
+		if (names.length == 0) return text;
+	
+		int length = fixedLength;
+		for (String value : values) {
+			length += value.length();
+		}
+	
+		StringBuilder builder = new StringBuilder(length);
+		for (int i = 0; i < names.length; i++) {
+			builder.append(segments[i]).append(values[i]);
+		}
+		return builder.append(segments[names.length]).toString();
+	}
+	
+	/**
+	 * @param viewer    the player viewing the text
+	 * @param extraData the extra data of the menu view
+	 * @return the text with its placeholders resolved through the {@link PlaceholderRegistry}
+	 */
+	public String render(Player viewer, DataRegistry extraData) {
+		return names.length == 0 ? text : splice(resolve(viewer, extraData));
+	}
+	
+	/**
+	 * @param resolver resolves the value of a placeholder by its name as it's written, null keeps the placeholder as it is
+	 * @return the text with its placeholders resolved
+	 */
+	public String render(Function<String, ?> resolver) {
+		return names.length == 0 ? text : splice(resolve(resolver));
+	}
+	
+	@Override
+	public String toString() {
+		return text;
+	}
+	
+}
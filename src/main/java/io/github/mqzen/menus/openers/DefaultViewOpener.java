@@ -3,6 +3,7 @@ package io.github.mqzen.menus.openers;
 import io.github.mqzen.menus.Lotus;
 import io.github.mqzen.menus.base.MenuView;
 import io.github.mqzen.menus.base.ViewOpener;
+import io.github.mqzen.menus.metrics.OpenPhase;
 import io.github.mqzen.menus.misc.ViewData;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
@@ -24,15 +25,18 @@ public final class DefaultViewOpener implements ViewOpener {
 	@Override
 	public @NotNull Inventory openMenu(Lotus manager, Player player,
 	                                   MenuView<?> menu, ViewData viewData) {
+		long start = System.nanoTime();
 		int size = viewData.capacity().getTotalSize();
 		String title = viewData.title().asString();
 		
 		Inventory inv = Bukkit.createInventory(menu, size, title);
 		
-		viewData.content().forEachItem((slot, button) ->
-			inv.setItem(slot.getSlot(), button.getItem()));
+		inv.setContents(viewData.content().toItemArray());
+		long renderEnd = System.nanoTime();
+		manager.getMetrics().recordOpenPhase(OpenPhase.RENDER, renderEnd - start);
 
 		player.openInventory(inv);
+		manager.getMetrics().recordOpenPhase(OpenPhase.OPEN_INVENTORY, System.nanoTime() - renderEnd);
 		return inv;
 	}
 }
@@ -0,0 +1,194 @@
+package io.github.mqzen.menus.openers;
+
+import io.github.mqzen.menus.Lotus;
+import io.github.mqzen.menus.base.MenuView;
+import io.github.mqzen.menus.base.ViewOpener;
+import io.github.mqzen.menus.metrics.OpenPhase;
+import io.github.mqzen.menus.misc.ViewData;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A view opener keeping the inventories it creates in a pool per player,
+ * keyed by their size and title, so reopening a menu of the same shape reuses
+ * the inventory of the previous opening instead of creating a new one.
+ * <p>
+ * A reused inventory gets the whole content of the new view in a single {@link Inventory#setContents(org.bukkit.inventory.ItemStack[])},
+ * and its holder (a {@link PooledHolder}) is rebound to the new view.
+ * An inventory that is still open isn't reused, as it would be closed by opening it again.
+ * The inventories of a player are evicted when the player quits, and an inventory is evicted
+ * once it hasn't been reused for the idle time.
+ * </p>
+ * It's meant to be used on the main thread only.
+ *
+ * @see Lotus#enableInventoryPooling(long)
+ */
+public final class PooledViewOpener implements ViewOpener {
+
+	private final long idleMillis;
+	private final Map<UUID, Map<PoolKey, PooledInventory>> pools = new ConcurrentHashMap<>();
+
+	/**
+	 * @param idleMillis the time (in milliseconds) after which an inventory that hasn't been reused is evicted
+	 */
+	public PooledViewOpener(long idleMillis) {
+		this.idleMillis = idleMillis;
+	}
+
+	/**
+	 * Opens the view in a pooled inventory of the player, creating it if the player has none of that shape
+	 *
+	 * @param manager  the manager
+	 * @param player   the player opening this menu
+	 * @param menu     the menu to open
+	 * @param viewData the data of the menu to open
+	 * @return the menu inventory opened for this player
+	 */
+	@Override
+	public @NotNull Inventory openMenu(Lotus manager, Player player,
+	                                   MenuView<?> menu, ViewData viewData) {
+		long start = System.nanoTime();
+		int size = viewData.capacity().getTotalSize();
+		String title = viewData.title().asString();
+
+		Map<PoolKey, PooledInventory> pool = pools.computeIfAbsent(player.getUniqueId(), (uuid) -> new HashMap<>());
+		PoolKey key = new PoolKey(size, title);
+		PooledInventory pooled = pool.get(key);
+		if (pooled == null || !pooled.inventory.getViewers().isEmpty()) {
+			PooledHolder holder = new PooledHolder();
+			pooled = new PooledInventory(holder, Bukkit.createInventory(holder, size, title));
+			pool.put(key, pooled);
+		}
+
+		pooled.holder.view = menu;
+		pooled.lastUsed = System.currentTimeMillis();
+		pooled.inventory.setContents(viewData.content().toItemArray());
+		long renderEnd = System.nanoTime();
+		manager.getMetrics().recordOpenPhase(OpenPhase.RENDER, renderEnd - start);
+
+		player.openInventory(pooled.inventory);
+		manager.getMetrics().recordOpenPhase(OpenPhase.OPEN_INVENTORY, System.nanoTime() - renderEnd);
+		return pooled.inventory;
+	}
+
+	/**
+	 * Evicts the pooled inventories of a player, e.g: when the player quits
+	 *
+	 * @param playerUUID the uuid of the player
+	 */
+	public void evict(UUID playerUUID) {
+		pools.remove(playerUUID);
+	}
+
+	/**
+	 * Evicts the inventories that haven't been reused for the idle time, unless they're open
+	 */
+	public void evictIdle() {
+		long oldest = System.currentTimeMillis() - idleMillis;
+		for (Iterator<Map<PoolKey, PooledInventory>> players = pools.values().iterator(); players.hasNext(); ) {
+			Map<PoolKey, PooledInventory> pool = players.next();
+			pool.values().removeIf((pooled) -> pooled.lastUsed < oldest && pooled.inventory.getViewers().isEmpty());
+			if (pool.isEmpty()) players.remove();
+		}
+	}
+
+	/**
+	 * Evicts every pooled inventory
+	 */
+	public void clear() {
+		pools.clear();
+	}
+
+	/**
+	 * @return the number of pooled inventories
+	 */
+	public int size() {
+		int size = 0;
+		for (Map<PoolKey, PooledInventory> pool : pools.values()) {
+			size += pool.size();
+		}
+		return size;
+	}
+
+	/**
+	 * The holder of a pooled inventory, bound to the view the inventory was last opened for
+	 */
+	public static final class PooledHolder implements InventoryHolder {
+
+		private volatile MenuView<?> view;
+
+		private PooledHolder() {
+		}
+
+		/**
+		 * @return the view the inventory was last opened for
+		 */
+		public @Nullable MenuView<?> getView() {
+			return view;
+		}
+
+		/**
+		 * Binds the inventory to another view shown in it without being reopened,
+		 * e.g: when a page is switched in place.
+		 *
+		 * @param view the view now shown in the inventory
+		 */
+		public void rebind(@NotNull MenuView<?> view) {
+			this.view = view;
+		}
+
+		@Override
+		public Inventory getInventory() {
+			MenuView<?> view = this.view;
+			return view == null ? null : view.getInventory();
+		}
+	}
+
+	private static final class PooledInventory {
+
+		private final PooledHolder holder;
+		private final Inventory inventory;
+		private long lastUsed;
+
+		private PooledInventory(PooledHolder holder, Inventory inventory) {
+			this.holder = holder;
+			this.inventory = inventory;
+		}
+	}
+
+	private static final class PoolKey {
+
+		private final int size;
+		private final String title;
+
+		private PoolKey(int size, String title) {
+			this.size = size;
+			this.title = title;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) return true;
+			if (!(obj instanceof PoolKey)) return false;
+			PoolKey other = (PoolKey) obj;
+			return size == other.size && Objects.equals(title, other.title);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * size + Objects.hashCode(title);
+		}
+	}
+
+}
@@ -0,0 +1,82 @@
+package io.github.mqzen.menus.ratelimit;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How many clicks a player may do within a period, it's a sustained rate of clicks
+ * with a burst of clicks allowed at once on top of it.
+ * <p>
+ * Limits are compared by their interval and burst, every player gets a bucket of its own for each distinct limit,
+ * so equal limits share the same buckets even if they're different instances.
+ * </p>
+ *
+ * @see ClickRateLimiter
+ */
+@Getter
+public final class ClickLimit {
+	
+	/**
+	 * The default limit, 20 clicks per second with bursts of up to 10 clicks
+	 */
+	public static final ClickLimit DEFAULT = perSecond(20, 10);
+	
+	private final long intervalNanos;
+	private final int burst;
+	
+	/**
+	 * The time by which a click may come early, before it's dropped
+	 */
+	private final long toleranceNanos;
+	
+	private ClickLimit(long intervalNanos, int burst) {
+		Preconditions.checkArgument(intervalNanos > 0L, "Interval between clicks must be positive");
+		Preconditions.checkArgument(burst >= 1, "Burst must be at least 1");
+		this.intervalNanos = intervalNanos;
+		this.burst = burst;
+		this.toleranceNanos = intervalNanos * (burst - 1);
+	}
+	
+	/**
+	 * @param clicksPerSecond the sustained clicks per second
+	 * @param burst           the clicks allowed at once
+	 * @return the limit
+	 */
+	public static ClickLimit perSecond(int clicksPerSecond, int burst) {
+		Preconditions.checkArgument(clicksPerSecond > 0, "Clicks per second must be positive");
+		return new ClickLimit(TimeUnit.SECONDS.toNanos(1) / clicksPerSecond, burst);
+	}
+	
+	/**
+	 * A limit allowing a single click per period, the clicks within the period after a click are dropped
+	 *
+	 * @param period the minimum time between two clicks
+	 * @param unit   the unit of the period
+	 * @return the limit
+	 */
+	public static ClickLimit debounce(long period, TimeUnit unit) {
+		return new ClickLimit(unit.toNanos(period), 1);
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof ClickLimit)) return false;
+		ClickLimit limit = (ClickLimit) o;
+		return intervalNanos == limit.intervalNanos && burst == limit.burst;
+	}
+	
+	@Override
+	public int hashCode() {
+		//computed without boxing, as limits are looked up on every click
+		return 31 * Long.hashCode(intervalNanos) + burst;
+	}
+	
+	@Override
+	public String toString() {
+		return "ClickLimit{" + (TimeUnit.SECONDS.toNanos(1) / (double) intervalNanos) + "/s, burst=" + burst + "}";
+	}
+	
+}
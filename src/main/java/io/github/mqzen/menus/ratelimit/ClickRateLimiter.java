@@ -0,0 +1,174 @@
+package io.github.mqzen.menus.ratelimit;
+
+import io.github.mqzen.menus.base.Menu;
+import io.github.mqzen.menus.base.MenuView;
+import io.github.mqzen.menus.misc.button.Button;
+import io.github.mqzen.menus.misc.button.actions.ButtonClickAction;
+import io.github.mqzen.menus.misc.button.actions.impl.ActionSequence;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits how fast each player clicks in menus, the clicks beyond the limit are cancelled
+ * before the menu sees them (before {@link Menu#onPreClick(MenuView, InventoryClickEvent)}).
+ * <p>
+ * The limit of a click is, in order of precedence: the limit of the tag of the clicked button's action
+ * (see {@link #setActionLimit(String, ClickLimit)}), the limit of the menu (see {@link Menu#getClickLimit()}),
+ * then the default limit. Each player has a bucket of its own per distinct limit (limits are compared by value), so a strict limit on an action
+ * doesn't use up the clicks allowed by the default limit.
+ * </p>
+ * <p>
+ * Buckets follow the generic cell rate algorithm, a bucket is a single {@link AtomicLong}
+ * holding the time at which the next click is expected, so checking a click is lock-free
+ * and it doesn't allocate once the player's bucket exists.
+ * </p>
+ */
+public final class ClickRateLimiter {
+	
+	private volatile @Nullable ClickLimit defaultLimit;
+	private final Map<String, ClickLimit> actionLimits = new ConcurrentHashMap<>();
+	private final Map<UUID, PlayerBuckets> players = new ConcurrentHashMap<>();
+	private final LongAdder droppedClicks = new LongAdder();
+	
+	/**
+	 * @param defaultLimit the limit of the clicks without a more specific limit, null for none
+	 */
+	public ClickRateLimiter(@Nullable ClickLimit defaultLimit) {
+		this.defaultLimit = defaultLimit;
+	}
+	
+	public @Nullable ClickLimit getDefaultLimit() {
+		return defaultLimit;
+	}
+	
+	/**
+	 * @param defaultLimit the limit of the clicks without a more specific limit, null to only limit
+	 *                     the menus and actions that have limits of their own
+	 */
+	public void setDefaultLimit(@Nullable ClickLimit defaultLimit) {
+		this.defaultLimit = defaultLimit;
+	}
+	
+	/**
+	 * Limits the clicks on the buttons whose action has a tag, the limit applies to sequences
+	 * of actions that contain an action of that tag as well
+	 *
+	 * @param tag   the tag of the action
+	 * @param limit the limit, null to remove the limit of the tag
+	 */
+	public void setActionLimit(String tag, @Nullable ClickLimit limit) {
+		if (limit == null) actionLimits.remove(tag);
+		else actionLimits.put(tag, limit);
+	}
+	
+	public @Nullable ClickLimit getActionLimit(String tag) {
+		return actionLimits.get(tag);
+	}
+	
+	/**
+	 * Checks a click of a player in an open view against its limit
+	 *
+	 * @param player the clicker
+	 * @param view   the clicked view
+	 * @param event  the click event
+	 * @return whether the click is allowed, otherwise it's counted as dropped
+	 */
+	public boolean tryClick(Player player, MenuView<?> view, InventoryClickEvent event) {
+		ClickLimit limit = null;
+		if (!actionLimits.isEmpty() && view.isOpen() && event.getClickedInventory() == view.getInventory()) {
+			Button button = view.getContent().buttonAt(event.getSlot());
+			if (button != null) limit = actionLimitOf(button.getAction());
+		}
+		if (limit == null) limit = view.getMenu().getClickLimit();
+		if (limit == null) limit = defaultLimit;
+		if (limit == null) return true;
+		
+		return tryAcquire(player.getUniqueId(), limit, System.nanoTime());
+	}
+	
+	/**
+	 * Takes a click from the bucket of a player for a limit
+	 *
+	 * @param playerUUID the uuid of the player
+	 * @param limit      the limit
+	 * @param nowNanos   the current time, from {@link System#nanoTime()}
+	 * @return whether the click is allowed, otherwise it's counted as dropped
+	 */
+	public boolean tryAcquire(UUID playerUUID, ClickLimit limit, long nowNanos) {
+		PlayerBuckets buckets = players.get(playerUUID);
+		if (buckets == null) buckets = players.computeIfAbsent(playerUUID, (uuid) -> new PlayerBuckets());
+		
+		AtomicLong bucket = buckets.bucket(limit, nowNanos);
+		while (true) {
+			long expected = bucket.get();
+			//an idle bucket has its expected time in the past, so it starts from now
+			long next = expected - nowNanos > 0 ? expected : nowNanos;
+			if (next - nowNanos > limit.getToleranceNanos()) {
+				buckets.dropped.increment();
+				droppedClicks.increment();
+				return false;
+			}
+			if (bucket.compareAndSet(expected, next + limit.getIntervalNanos()))
+				return true;
+		}
+	}
+	
+	private @Nullable ClickLimit actionLimitOf(@Nullable ButtonClickAction action) {
+		if (action == null) return null;
+		if (action instanceof ActionSequence) {
+			ActionSequence sequence = (ActionSequence) action;
+			for (int i = 0; i < sequence.size(); i++) {
+				ClickLimit limit = actionLimits.get(sequence.get(i).tag());
+				if (limit != null) return limit;
+			}
+			return null;
+		}
+		return actionLimits.get(action.tag());
+	}
+	
+	/**
+	 * Drops the buckets of a player, e.g: when the player quits
+	 *
+	 * @param playerUUID the uuid of the player
+	 */
+	public void forget(UUID playerUUID) {
+		players.remove(playerUUID);
+	}
+	
+	/**
+	 * @return the number of clicks dropped since the limiter was created
+	 */
+	public long getDroppedClicks() {
+		return droppedClicks.sum();
+	}
+	
+	/**
+	 * @param playerUUID the uuid of the player
+	 * @return the number of clicks of an online player that were dropped
+	 */
+	public long getDroppedClicks(UUID playerUUID) {
+		PlayerBuckets buckets = players.get(playerUUID);
+		return buckets == null ? 0L : buckets.dropped.sum();
+	}
+	
+	private static final class PlayerBuckets {
+		
+		private final Map<ClickLimit, AtomicLong> buckets = new ConcurrentHashMap<>(4);
+		private final LongAdder dropped = new LongAdder();
+		
+		private AtomicLong bucket(ClickLimit limit, long nowNanos) {
+			AtomicLong bucket = buckets.get(limit);
+			if (bucket != null) return bucket;
+			//a new bucket is full, its next click is expected right away
+			return buckets.computeIfAbsent(limit, (key) -> new AtomicLong(nowNanos));
+		}
+	}
+	
+}
@@ -7,11 +7,12 @@ final class LegacyTitle implements MenuTitle {
 	private final String text;
 	
 	LegacyTitle(String text) {
-		this.text = text;
+		//translated once, the title is immutable
+		this.text = ChatColor.translateAlternateColorCodes('&', text);
 	}
 	
 	@Override
 	public String asString() {
-		return ChatColor.translateAlternateColorCodes('&', text);
+		return text;
 	}
-}
\ No newline at end of file
+}
@@ -1,18 +1,51 @@
 package io.github.mqzen.menus.titles;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
 
 public final class MenuTitles {
 	
 	/**
-	 * Creates a legacy menu title based on the provided string.
+	 * The maximum number of titles created from strings that are memoized
+	 */
+	private static final int MAX_MEMOIZED_TITLES = 512;
+	
+	//titles are immutable, so the ones created from identical strings are shared instead of parsed again
+	private static final LoadingCache<String, MenuTitle> LEGACY_TITLES = memoize(LegacyTitle::new);
+	private static final LoadingCache<String, MenuTitle> MODERN_TITLES =
+		memoize((miniMessage) -> new ModernTitle(MiniMessage.miniMessage().deserialize(miniMessage)));
+	
+	private MenuTitles() {
+		throw new UnsupportedOperationException();
+	}
+	
+	private static <V> LoadingCache<String, V> memoize(Function<String, V> loader) {
+		return CacheBuilder.newBuilder()
+			.maximumSize(MAX_MEMOIZED_TITLES)
+			.build(new CacheLoader<String, V>() {
+				@Override
+				public V load(@NotNull String key) {
+					return loader.apply(key);
+				}
+			});
+	}
+	
+	/**
+	 * Creates a legacy menu title based on the provided string,
+	 * titles created from identical strings are memoized.
 	 *
 	 * @param title the title text to be used. It may contain legacy color codes
 	 * @return a MenuTitle object that represents the legacy title.
 	 */
 	public static MenuTitle createLegacy(String title) {
-		return new LegacyTitle(title);
+		return LEGACY_TITLES.getUnchecked(title);
 	}
 	
 	/**
@@ -37,12 +70,47 @@ public final class MenuTitles {
 	}
 	
 	/**
-	 * Creates a modern MenuTitle using a mini message string.
+	 * Creates a modern MenuTitle using a mini message string,
+	 * titles created from identical strings are memoized, so the string is parsed once.
 	 *
 	 * @param miniMessage the mini message string to be deserialized into a Component
 	 * @return a MenuTitle object representing the deserialized Component
 	 */
 	public static MenuTitle createModern(String miniMessage) {
-		return createModern(MiniMessage.miniMessage(), miniMessage);
+		return MODERN_TITLES.getUnchecked(miniMessage);
+	}
+	
+	/**
+	 * Creates a title template from a text with legacy color codes
+	 * and placeholders (e.g: "&6<player>'s stats - page <page>")
+	 *
+	 * @param title the title text
+	 * @return the template, translated once
+	 */
+	public static TitleTemplate legacyTemplate(String title) {
+		return TitleTemplate.compile(ChatColor.translateAlternateColorCodes('&', title));
+	}
+	
+	/**
+	 * Creates a title template from a mini message string
+	 * with placeholders (e.g: "&lt;gold&gt;&lt;player&gt;'s stats - page &lt;page&gt;"),
+	 * the placeholders are compiled from the parsed title, so their names must not be tags of mini message.
+	 *
+	 * @param miniMessage the mini message string
+	 * @return the template, parsed once
+	 */
+	public static TitleTemplate modernTemplate(String miniMessage) {
+		return modernTemplate(MiniMessage.miniMessage(), miniMessage);
+	}
+	
+	/**
+	 * Creates a title template from a mini message string with placeholders
+	 *
+	 * @param apiObject the MiniMessage API object used for deserialization
+	 * @param miniMessage the mini message string
+	 * @return the template, parsed once
+	 */
+	public static TitleTemplate modernTemplate(MiniMessage apiObject, String miniMessage) {
+		return TitleTemplate.compile(createModern(apiObject, miniMessage).asString());
 	}
 }
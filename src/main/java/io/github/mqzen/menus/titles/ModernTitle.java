@@ -6,6 +6,7 @@ import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 final class ModernTitle implements MenuTitle {
 	
 	private final Component component;
+	private volatile String serialized;
 	
 	ModernTitle(Component component) {
 		this.component = component;
@@ -13,6 +14,12 @@ final class ModernTitle implements MenuTitle {
 	
 	@Override
 	public String asString() {
-		return LegacyComponentSerializer.legacySection().serialize(component);
+		//components are immutable, so the title is serialized once (racing threads compute the same string)
+		String result = serialized;
+		if (result == null) {
+			result = LegacyComponentSerializer.legacySection().serialize(component);
+			serialized = result;
+		}
+		return result;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package io.github.mqzen.menus.titles;
+
+/**
+ * A title whose text is final already, e.g: rendered from a {@link TitleTemplate}
+ */
+final class RenderedTitle implements MenuTitle {
+	
+	private final String text;
+	
+	RenderedTitle(String text) {
+		this.text = text;
+	}
+	
+	@Override
+	public String asString() {
+		return text;
+	}
+}
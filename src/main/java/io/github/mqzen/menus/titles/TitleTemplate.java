@@ -0,0 +1,94 @@
+package io.github.mqzen.menus.titles;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import io.github.mqzen.menus.misc.DataRegistry;
+import io.github.mqzen.menus.misc.placeholder.PlaceholderText;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A title parsed and colour-translated once, with named placeholders (e.g: {@code <player>}, {@code <page>})
+ * that are filled on every open, rendering it only splices the values between precomputed segments.
+ * <p>
+ * The placeholders are those of a {@link PlaceholderText}, the values are inserted as they are, they're not parsed or translated.
+ * Titles rendered from the same values are memoized, up to {@link #MAX_RENDERED_TITLES} of them.
+ * </p>
+ *
+ * @see MenuTitles#legacyTemplate(String)
+ * @see MenuTitles#modernTemplate(String)
+ */
+public final class TitleTemplate {
+	
+	/**
+	 * The maximum number of rendered titles memoized per template
+	 */
+	public static final int MAX_RENDERED_TITLES = 256;
+	
+	private final PlaceholderText text;
+	private final MenuTitle constant;
+	private final LoadingCache<List<String>, MenuTitle> rendered = CacheBuilder.newBuilder()
+		.maximumSize(MAX_RENDERED_TITLES)
+		.build(new CacheLoader<List<String>, MenuTitle>() {
+			@Override
+			public MenuTitle load(@NotNull List<String> values) {
+				return new RenderedTitle(text.splice(values.toArray(new String[0])));
+			}
+		});
+	
+	private TitleTemplate(PlaceholderText text) {
+		this.text = text;
+		this.constant = text.hasPlaceholders() ? null : new RenderedTitle(text.toString());
+	}
+	
+	/**
+	 * Splits an already translated title around its placeholders
+	 *
+	 * @param text the translated text
+	 * @return the template of the text
+	 */
+	static TitleTemplate compile(String text) {
+		return new TitleTemplate(PlaceholderText.compile(text));
+	}
+	
+	/**
+	 * @return the names of the placeholders in their order of appearance, a name may repeat
+	 */
+	public List<String> getPlaceholders() {
+		return text.getPlaceholders();
+	}
+	
+	/**
+	 * @param values the values of the placeholders by their names
+	 * @return the rendered title, placeholders without a value are kept as they are
+	 */
+	public MenuTitle render(Map<String, ?> values) {
+		return render(values::get);
+	}
+	
+	/**
+	 * @param resolver resolves the value of a placeholder by its name, null keeps the placeholder as it is
+	 * @return the rendered title
+	 */
+	public MenuTitle render(Function<String, ?> resolver) {
+		if (constant != null) return constant;
+		return rendered.getUnchecked(Arrays.asList(text.resolve(resolver)));
+	}
+	
+	/**
+	 * @param viewer    the player viewing the title
+	 * @param extraData the extra data of the menu view
+	 * @return the title rendered with its placeholders resolved through the {@link io.github.mqzen.menus.misc.placeholder.PlaceholderRegistry}
+	 */
+	public MenuTitle render(Player viewer, DataRegistry extraData) {
+		if (constant != null) return constant;
+		return rendered.getUnchecked(Arrays.asList(text.resolve(viewer, extraData)));
+	}
+	
+}